@@ -1,11 +1,18 @@
 package mekanism.api.transmitters;
 
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.EnumSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -32,6 +39,10 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     protected Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> transmitters = new ObjectOpenHashSet<>();
     protected Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> transmittersToAdd = new ObjectOpenHashSet<>();
     protected Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> transmittersAdded = new ObjectOpenHashSet<>();
+    /**
+     * Lookup of the transmitters in this network by position, kept in sync with {@link #transmitters} so that we can walk the network without going through the world.
+     */
+    private Map<Coord4D, IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> transmitterPositions = new Object2ObjectOpenHashMap<>();
 
     protected Set<Coord4D> possibleAcceptors = new ObjectOpenHashSet<>();
     protected Map<Coord4D, EnumSet<Direction>> acceptorDirections = new Object2ObjectOpenHashMap<>();
@@ -65,6 +76,7 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
                     transmitter.setTransmitterNetwork((NETWORK) this);
                     absorbBuffer(transmitter);
                     transmitters.add(transmitter);
+                    transmitterPositions.put(transmitter.coord(), transmitter);
                 }
             }
 
@@ -89,19 +101,28 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     }
 
     public void updateTransmitterOnSide(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter, Direction side) {
-        ACCEPTOR acceptor = transmitter.getAcceptor(side);
-        Coord4D acceptorCoord = transmitter.coord().offset(side);
+        updateAcceptor(transmitter.coord().offset(side), side.getOpposite(), transmitter.getAcceptor(side) != null);
+    }
+
+    /**
+     * Updates if there is an acceptor on the given side of the given position.
+     *
+     * @param acceptorCoord Position of the acceptor.
+     * @param side          Side of the acceptor that faces the transmitter.
+     * @param hasAcceptor   True if there is an acceptor at the position that accepts from the given side.
+     */
+    protected void updateAcceptor(Coord4D acceptorCoord, Direction side, boolean hasAcceptor) {
         EnumSet<Direction> directions = acceptorDirections.get(acceptorCoord);
 
-        if (acceptor != null) {
+        if (hasAcceptor) {
             possibleAcceptors.add(acceptorCoord);
             if (directions != null) {
-                directions.add(side.getOpposite());
+                directions.add(side);
             } else {
-                acceptorDirections.put(acceptorCoord, EnumSet.of(side.getOpposite()));
+                acceptorDirections.put(acceptorCoord, EnumSet.of(side));
             }
         } else if (directions != null) {
-            directions.remove(side.getOpposite());
+            directions.remove(side);
 
             if (directions.isEmpty()) {
                 possibleAcceptors.remove(acceptorCoord);
@@ -148,6 +169,172 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         deregister();
     }
 
+    /**
+     * Removes transmitters that are no longer valid from this network without invalidating the entire network. Only the parts of the network around the removed
+     * transmitters are walked to check if they are still connected to each other, and any parts that got disconnected are orphaned so that they can form their own
+     * network. The largest remaining part stays in this network.
+     *
+     * @param removed The transmitters to remove, none of these may still be valid.
+     */
+    public void removeInvalidTransmitters(Collection<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> removed) {
+        List<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> neighbors = new ArrayList<>();
+        for (IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter : removed) {
+            transmitters.remove(transmitter);
+            transmittersToAdd.remove(transmitter);
+            transmitterPositions.remove(transmitter.coord());
+        }
+        for (IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter : removed) {
+            Coord4D coord = transmitter.coord();
+            for (Direction side : DIRECTIONS) {
+                Coord4D adjacent = coord.offset(side);
+                //Remove any acceptors the transmitter provided
+                updateAcceptor(adjacent, side.getOpposite(), false);
+                IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> neighbor = transmitterPositions.get(adjacent);
+                if (neighbor != null && neighbor.isValid() && !neighbors.contains(neighbor)) {
+                    neighbors.add(neighbor);
+                }
+            }
+        }
+        if (transmitters.isEmpty()) {
+            deregister();
+            return;
+        }
+        if (neighbors.size() > 1) {
+            //If there was more than one neighbor then the network may have been split into multiple pieces
+            splitDisconnected(neighbors);
+        }
+        packetRange = null;
+        updateCapacity();
+        clampBuffer();
+        wakeUp();
+    }
+
+    /**
+     * Walks outwards from each of the given transmitters at the same time, stopping as soon as they have all found each other. If some of them run out of transmitters
+     * to visit without meeting the others, they are no longer connected to the rest of the network and get orphaned.
+     *
+     * @implNote Neighbors are only resolved to transmitters through our position index, but which sides are connected still gets asked of each transmitter via
+     * {@link IGridTransmitter#getAdjacentConnectableTransmitterCoord(Direction)}, which looks at the neighboring tiles in the world. Being next to each other in the
+     * same network is not enough, as a side may have been disabled or the colors may not match.
+     *
+     * @param seeds The transmitters next to where transmitters were removed.
+     */
+    private void splitDisconnected(List<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> seeds) {
+        int seedCount = seeds.size();
+        //Union-find of which seeds have been found to be connected to each other
+        int[] groups = new int[seedCount];
+        List<Deque<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>>> frontiers = new ArrayList<>(seedCount);
+        List<Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>>> visited = new ArrayList<>(seedCount);
+        Object2IntMap<Coord4D> owners = new Object2IntOpenHashMap<>();
+        owners.defaultReturnValue(-1);
+        for (int i = 0; i < seedCount; i++) {
+            IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> seed = seeds.get(i);
+            groups[i] = i;
+            Deque<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> frontier = new ArrayDeque<>();
+            frontier.add(seed);
+            frontiers.add(frontier);
+            Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> seen = new ObjectOpenHashSet<>();
+            seen.add(seed);
+            visited.add(seen);
+            owners.put(seed.coord(), i);
+        }
+        boolean[] activeGroups = new boolean[seedCount];
+        while (true) {
+            //Expand each search by one transmitter
+            for (int i = 0; i < seedCount; i++) {
+                IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter = frontiers.get(i).poll();
+                if (transmitter == null) {
+                    continue;
+                }
+                for (Direction side : DIRECTIONS) {
+                    Coord4D adjacent = transmitter.getAdjacentConnectableTransmitterCoord(side);
+                    if (adjacent == null) {
+                        continue;
+                    }
+                    IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> neighbor = transmitterPositions.get(adjacent);
+                    if (neighbor == null || !neighbor.isValid()) {
+                        continue;
+                    }
+                    int owner = owners.getInt(adjacent);
+                    if (owner == -1) {
+                        owners.put(adjacent, i);
+                        visited.get(i).add(neighbor);
+                        frontiers.get(i).add(neighbor);
+                    } else {
+                        //We ran into a different search, so they are connected
+                        groups[findGroup(groups, owner)] = findGroup(groups, i);
+                    }
+                }
+            }
+            //Check if everything is still connected, or if all but one of the groups ran out of transmitters to check
+            Arrays.fill(activeGroups, false);
+            int rootCount = 0;
+            int activeCount = 0;
+            for (int i = 0; i < seedCount; i++) {
+                int root = findGroup(groups, i);
+                if (root == i) {
+                    rootCount++;
+                }
+                if (!activeGroups[root] && !frontiers.get(i).isEmpty()) {
+                    activeGroups[root] = true;
+                    activeCount++;
+                }
+            }
+            if (rootCount == 1) {
+                //All the pieces found each other, the network is still in one piece
+                return;
+            } else if (activeCount <= 1) {
+                break;
+            }
+        }
+        //Keep the group that is still being searched as it is the largest, if all finished keep the one with the most transmitters
+        int keptGroup = -1;
+        int keptSize = -1;
+        int[] groupSizes = new int[seedCount];
+        for (int i = 0; i < seedCount; i++) {
+            groupSizes[findGroup(groups, i)] += visited.get(i).size();
+        }
+        for (int i = 0; i < seedCount; i++) {
+            if (groups[i] == i) {
+                if (activeGroups[i]) {
+                    keptGroup = i;
+                    break;
+                } else if (groupSizes[i] > keptSize) {
+                    keptGroup = i;
+                    keptSize = groupSizes[i];
+                }
+            }
+        }
+        List<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> split = new ArrayList<>();
+        for (int i = 0; i < seedCount; i++) {
+            if (findGroup(groups, i) != keptGroup) {
+                split.addAll(visited.get(i));
+            }
+        }
+        //Update the shares first so that they are based on the network before it was split
+        for (IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter : split) {
+            transmitter.updateShare();
+        }
+        for (IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter : split) {
+            Coord4D coord = transmitter.coord();
+            for (Direction side : DIRECTIONS) {
+                updateAcceptor(coord.offset(side), side.getOpposite(), false);
+            }
+            invalidateTransmitter(transmitter);
+            transmitters.remove(transmitter);
+            transmitterPositions.remove(coord);
+        }
+    }
+
+    private static int findGroup(int[] groups, int index) {
+        while (groups[index] != index) {
+            //Compress the path as we go
+            groups[index] = groups[groups[index]];
+            index = groups[index];
+        }
+        return index;
+    }
+
     public void invalidateTransmitter(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter) {
         if (!isRemote() && transmitter.isValid()) {
             transmitter.takeShare();
@@ -166,10 +353,30 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         TransmitterNetworkRegistry.registerChangedNetwork(this);
     }
 
+    /**
+     * Called when a chunk in the world this network is in gets unloaded, so that the network can drop any references it is holding to things in that chunk.
+     *
+     * @param chunkKey The unloaded chunk's position as a long
+     */
+    public void onChunkUnloaded(long chunkKey) {
+    }
+
+    /**
+     * Called when a chunk in the world this network is in gets loaded, so that the network can refresh anything it dropped when the chunk was unloaded.
+     *
+     * @param chunkKey The loaded chunk's position as a long
+     */
+    public void onChunkLoaded(long chunkKey) {
+    }
+
     public void adoptTransmittersAndAcceptorsFrom(NETWORK net) {
+        if (world == null) {
+            world = net.world;
+        }
         for (IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter : net.transmitters) {
             transmitter.setTransmitterNetwork((NETWORK) this);
             transmitters.add(transmitter);
+            transmitterPositions.put(transmitter.coord(), transmitter);
             transmittersAdded.add(transmitter);
         }
 
@@ -237,6 +444,7 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
 
     public void deregister() {
         transmitters.clear();
+        transmitterPositions.clear();
         transmittersToAdd.clear();
         transmittersAdded.clear();
 
@@ -277,6 +485,27 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         onUpdate();
     }
 
+    /**
+     * Checks if this network currently has no work to do, in which case it stops being ticked until something wakes it back up via {@link #wakeUp()}.
+     *
+     * @return True if this network can skip ticking until it is woken up.
+     *
+     * @implNote Networks that hold onto a buffer or any other state that needs to be processed each tick should override this and only allow sleeping once that state is
+     * settled.
+     */
+    public boolean canSleep() {
+        return updateDelay == 0 && !needsUpdate && updateQueue.isEmpty() && transmittersToAdd.isEmpty() && changedAcceptors.isEmpty();
+    }
+
+    /**
+     * Marks this network as having work to do so that it gets ticked again if it was sleeping.
+     */
+    public void wakeUp() {
+        if (!isRemote()) {
+            TransmitterNetworkRegistry.getInstance().wakeNetwork(this);
+        }
+    }
+
     public void onUpdate() {
         if (!isRemote()) {
             Iterator<DelayQueue> i = updateQueue.iterator();
@@ -319,10 +548,12 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     public void queueClientUpdate(Collection<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> newTransmitters) {
         transmittersAdded.addAll(newTransmitters);
         updateDelay = 5;
+        wakeUp();
     }
 
     public void addUpdate(PlayerEntity player) {
         updateQueue.add(new DelayQueue(player));
+        wakeUp();
     }
 
     public boolean isCompatibleWith(NETWORK other) {
@@ -338,10 +569,12 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     }
 
     public boolean addTransmitter(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter) {
+        transmitterPositions.put(transmitter.coord(), transmitter);
         return transmitters.add(transmitter);
     }
 
     public boolean removeTransmitter(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter) {
+        transmitterPositions.remove(transmitter.coord());
         boolean removed = transmitters.remove(transmitter);
         if (transmitters.isEmpty()) {
             deregister();
@@ -349,6 +582,14 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         return removed;
     }
 
+    /**
+     * @return The transmitter in this network at the given position, or null if there is none.
+     */
+    @Nullable
+    public IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> getTransmitter(Coord4D coord) {
+        return transmitterPositions.get(coord);
+    }
+
     public IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> firstTransmitter() {
         return transmitters.iterator().next();
     }
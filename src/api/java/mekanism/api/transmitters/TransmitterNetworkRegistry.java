@@ -1,18 +1,26 @@
 package mekanism.api.transmitters;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectAVLTreeMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectSortedMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.Deque;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
 import mekanism.api.MekanismAPI;
 import net.minecraft.util.Direction;
 import net.minecraft.util.text.ITextComponent;
+import net.minecraft.world.IWorld;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.event.TickEvent.Phase;
 import net.minecraftforge.event.TickEvent.ServerTickEvent;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -28,6 +36,14 @@ public class TransmitterNetworkRegistry {
     private static boolean loaderRegistered = false;
     private static Logger logger = LogManager.getLogger("MekanismTransmitters");
     private Set<DynamicNetwork<?, ?, ?>> networks = new ObjectOpenHashSet<>();
+    /**
+     * Registered networks partitioned by the id of the dimension they are in. This is sorted so that dimensions are always ticked in the same order.
+     */
+    private Int2ObjectSortedMap<DimensionNetworks> dimensionNetworks = new Int2ObjectAVLTreeMap<>();
+    /**
+     * Registered networks that do not know what world they are in yet, they get assigned to a dimension once they have committed their transmitters.
+     */
+    private Set<DynamicNetwork<?, ?, ?>> unassignedNetworks = new ObjectOpenHashSet<>();
     private Set<DynamicNetwork<?, ?, ?>> networksToChange = new ObjectOpenHashSet<>();
     private Set<IGridTransmitter<?, ?, ?>> invalidTransmitters = new ObjectOpenHashSet<>();
     private Map<Coord4D, IGridTransmitter<?, ?, ?>> orphanTransmitters = new Object2ObjectOpenHashMap<>();
@@ -42,6 +58,8 @@ public class TransmitterNetworkRegistry {
 
     public static void reset() {
         getInstance().networks.clear();
+        getInstance().dimensionNetworks.clear();
+        getInstance().unassignedNetworks.clear();
         getInstance().networksToChange.clear();
         getInstance().invalidTransmitters.clear();
         getInstance().orphanTransmitters.clear();
@@ -69,14 +87,57 @@ public class TransmitterNetworkRegistry {
     }
 
     public void registerNetwork(DynamicNetwork<?, ?, ?> network) {
-        networks.add(network);
+        if (networks.add(network)) {
+            DimensionNetworks dimension = getDimensionNetworks(network.getWorld(), true);
+            if (dimension == null) {
+                unassignedNetworks.add(network);
+            } else {
+                dimension.add(network);
+            }
+        }
     }
 
     public void removeNetwork(DynamicNetwork<?, ?, ?> network) {
-        networks.remove(network);
+        if (networks.remove(network)) {
+            if (!unassignedNetworks.remove(network)) {
+                DimensionNetworks dimension = getDimensionNetworks(network.getWorld(), false);
+                if (dimension != null) {
+                    dimension.remove(network);
+                }
+            }
+        }
         networksToChange.remove(network);
     }
 
+    /**
+     * Makes sure the given network gets ticked, if it was sleeping.
+     *
+     * @param network The network to wake up.
+     */
+    public void wakeNetwork(DynamicNetwork<?, ?, ?> network) {
+        if (networks.contains(network)) {
+            DimensionNetworks dimension = getDimensionNetworks(network.getWorld(), false);
+            //Note: If the network is not in a dimension yet it will be woken up when it gets assigned to one
+            if (dimension != null) {
+                dimension.wake(network);
+            }
+        }
+    }
+
+    @Nullable
+    private DimensionNetworks getDimensionNetworks(@Nullable IWorld world, boolean create) {
+        if (world == null) {
+            return null;
+        }
+        int dimensionId = world.getDimension().getType().getId();
+        DimensionNetworks dimension = dimensionNetworks.get(dimensionId);
+        if (dimension == null && create) {
+            dimension = new DimensionNetworks();
+            dimensionNetworks.put(dimensionId, dimension);
+        }
+        return dimension;
+    }
+
     @SubscribeEvent
     public void onTick(ServerTickEvent event) {
         if (event.phase == Phase.END && event.side.isServer()) {
@@ -84,12 +145,70 @@ public class TransmitterNetworkRegistry {
         }
     }
 
+    @SubscribeEvent
+    public void onChunkLoad(ChunkEvent.Load event) {
+        IWorld world = event.getWorld();
+        if (world != null && !world.isRemote()) {
+            DimensionNetworks dimension = getDimensionNetworks(world, false);
+            if (dimension != null) {
+                long chunkKey = event.getChunk().getPos().asLong();
+                for (DynamicNetwork<?, ?, ?> net : dimension.networks) {
+                    net.onChunkLoaded(chunkKey);
+                }
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public void onChunkUnload(ChunkEvent.Unload event) {
+        IWorld world = event.getWorld();
+        if (world != null && !world.isRemote()) {
+            DimensionNetworks dimension = getDimensionNetworks(world, false);
+            if (dimension != null) {
+                long chunkKey = event.getChunk().getPos().asLong();
+                for (DynamicNetwork<?, ?, ?> net : dimension.networks) {
+                    net.onChunkUnloaded(chunkKey);
+                }
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public void onWorldUnload(WorldEvent.Unload event) {
+        IWorld world = event.getWorld();
+        if (world != null && !world.isRemote()) {
+            //Only drop the partition once it is empty, the networks themselves get removed as their transmitters unload
+            DimensionNetworks dimension = getDimensionNetworks(world, false);
+            if (dimension != null && dimension.networks.isEmpty()) {
+                dimensionNetworks.remove(world.getDimension().getType().getId());
+            }
+        }
+    }
+
     public void tickEnd() {
         removeInvalidTransmitters();
         assignOrphans();
         commitChanges();
-        for (DynamicNetwork<?, ?, ?> net : networks) {
-            net.tick();
+        assignDimensions();
+        for (DimensionNetworks dimension : dimensionNetworks.values()) {
+            dimension.tick();
+        }
+    }
+
+    /**
+     * Moves any networks that now know which world they are in into the partition for that dimension.
+     */
+    private void assignDimensions() {
+        if (!unassignedNetworks.isEmpty()) {
+            Iterator<DynamicNetwork<?, ?, ?>> iterator = unassignedNetworks.iterator();
+            while (iterator.hasNext()) {
+                DynamicNetwork<?, ?, ?> network = iterator.next();
+                DimensionNetworks dimension = getDimensionNetworks(network.getWorld(), true);
+                if (dimension != null) {
+                    dimension.add(network);
+                    iterator.remove();
+                }
+            }
         }
     }
 
@@ -98,18 +217,42 @@ public class TransmitterNetworkRegistry {
             logger.info("Dealing with " + invalidTransmitters.size() + " invalid Transmitters");
         }
 
+        Set<DynamicNetwork<?, ?, ?>> networksToInvalidate = new ObjectOpenHashSet<>();
+        Map<DynamicNetwork<?, ?, ?>, Set<IGridTransmitter<?, ?, ?>>> removedTransmitters = new Object2ObjectOpenHashMap<>();
         for (IGridTransmitter<?, ?, ?> invalid : invalidTransmitters) {
             if (!(invalid.isOrphan() && invalid.isValid())) {
                 DynamicNetwork<?, ?, ?> n = invalid.getTransmitterNetwork();
                 if (n != null) {
-                    n.invalidate();
+                    if (invalid.isValid()) {
+                        //The transmitter is still there but its connections changed, we can't handle that incrementally
+                        networksToInvalidate.add(n);
+                    } else {
+                        removedTransmitters.computeIfAbsent(n, network -> new ObjectOpenHashSet<>()).add(invalid);
+                    }
                 }
             }
         }
 
+        for (DynamicNetwork<?, ?, ?> network : networksToInvalidate) {
+            removedTransmitters.remove(network);
+            network.invalidate();
+        }
+        for (Entry<DynamicNetwork<?, ?, ?>, Set<IGridTransmitter<?, ?, ?>>> entry : removedTransmitters.entrySet()) {
+            removeInvalidTransmitters(entry.getKey(), entry.getValue());
+        }
+
         invalidTransmitters.clear();
     }
 
+    private <A, N extends DynamicNetwork<A, N, BUFFER>, BUFFER> void removeInvalidTransmitters(DynamicNetwork<A, N, BUFFER> network, Set<IGridTransmitter<?, ?, ?>> removed) {
+        if (network.getWorld() == null) {
+            //If we don't know the world the network is in we can't walk it, so just fall back to invalidating the network
+            network.invalidate();
+        } else {
+            network.removeInvalidTransmitters((Set) removed);
+        }
+    }
+
     public void assignOrphans() {
         orphanTransmitters = new Object2ObjectOpenHashMap<>(newOrphanTransmitters);
         newOrphanTransmitters.clear();
@@ -171,6 +314,8 @@ public class TransmitterNetworkRegistry {
     public void commitChanges() {
         for (DynamicNetwork<?, ?, ?> network : networksToChange) {
             network.commit();
+            //Changed networks may have new acceptors or absorbed buffers to process
+            wakeNetwork(network);
         }
         networksToChange.clear();
     }
@@ -190,6 +335,57 @@ public class TransmitterNetworkRegistry {
         return components;
     }
 
+    /**
+     * The networks of a single dimension, and which of them are currently awake.
+     */
+    private static class DimensionNetworks {
+
+        private final Set<DynamicNetwork<?, ?, ?>> networks = new ObjectOpenHashSet<>();
+        /**
+         * Networks that have work to do and should be ticked, any network in {@link #networks} that is not in here is sleeping.
+         */
+        private final Set<DynamicNetwork<?, ?, ?>> activeNetworks = new ObjectOpenHashSet<>();
+        /**
+         * Networks that got woken up while we were ticking the active networks.
+         */
+        private final Set<DynamicNetwork<?, ?, ?>> networksToWake = new ObjectOpenHashSet<>();
+        private boolean ticking;
+
+        private void add(DynamicNetwork<?, ?, ?> network) {
+            networks.add(network);
+            wake(network);
+        }
+
+        private void remove(DynamicNetwork<?, ?, ?> network) {
+            networks.remove(network);
+            activeNetworks.remove(network);
+            networksToWake.remove(network);
+        }
+
+        private void wake(DynamicNetwork<?, ?, ?> network) {
+            if (ticking) {
+                //Don't modify the active networks while we are iterating them
+                networksToWake.add(network);
+            } else {
+                activeNetworks.add(network);
+            }
+        }
+
+        private void tick() {
+            ticking = true;
+            for (DynamicNetwork<?, ?, ?> net : activeNetworks) {
+                net.tick();
+            }
+            ticking = false;
+            //Put any networks that have nothing left to do to sleep until something wakes them up
+            activeNetworks.removeIf(DynamicNetwork::canSleep);
+            if (!networksToWake.isEmpty()) {
+                activeNetworks.addAll(networksToWake);
+                networksToWake.clear();
+            }
+        }
+    }
+
     public class OrphanPathFinder<A, N extends DynamicNetwork<A, N, BUFFER>, BUFFER> {
 
         public IGridTransmitter<A, N, BUFFER> startPoint;
@@ -356,6 +356,9 @@ public class MekanismLangProvider extends BaseLanguageProvider {
         add(MekanismLang.COMMAND_CHUNK_LOADED, "Loaded");
         add(MekanismLang.COMMAND_CHUNK_UNLOADED, "Unloaded");
         add(MekanismLang.COMMAND_DEBUG, "Toggled debug mode: %s.");
+        add(MekanismLang.COMMAND_PATH_CACHE, "%d transporter paths cached, %d hits and %d misses");
+        add(MekanismLang.COMMAND_RETROGEN, "%s: %d of %d chunks regenerated, %s remaining");
+        add(MekanismLang.COMMAND_RETROGEN_EMPTY, "No chunks are waiting for ore regeneration");
         add(MekanismLang.COMMAND_TEST_RULES, "Mob spawning, daylight cycle and weather disabled!");
         add(MekanismLang.COMMAND_TP, "Teleported to %d, %d, %d - saved last position on stack");
         add(MekanismLang.COMMAND_TPOP, "Returned to %d, %d, %d; %d positions on stack");
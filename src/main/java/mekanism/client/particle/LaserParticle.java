@@ -4,6 +4,7 @@ import com.mojang.blaze3d.vertex.IVertexBuilder;
 import javax.annotation.Nonnull;
 import mekanism.api.Pos3D;
 import mekanism.common.particle.LaserParticleData;
+import net.minecraft.client.Minecraft;
 import net.minecraft.client.particle.IAnimatedSprite;
 import net.minecraft.client.particle.IParticleFactory;
 import net.minecraft.client.particle.IParticleRenderType;
@@ -23,20 +24,41 @@ public class LaserParticle extends SpriteTexturedParticle {
 
     private final Direction direction;
     private final float halfLength;
+    private final Pos3D start;
+    private final Pos3D end;
+    private final double energy;
+    private final IAnimatedSprite spriteSet;
+    /**
+     * Number of ticks after this one that the beam still has to be shown for, each of which gets its own particle just as if the server had sent one every tick
+     */
+    private final int remainingTicks;
 
-    private LaserParticle(World world, Pos3D start, Pos3D end, Direction dir, double energy) {
+    private LaserParticle(World world, Pos3D start, Pos3D end, Direction dir, double energy, IAnimatedSprite spriteSet, int remainingTicks) {
         super(world, (start.x + end.x) / 2D, (start.y + end.y) / 2D, (start.z + end.z) / 2D);
+        this.start = start;
+        this.end = end;
+        this.energy = energy;
+        this.spriteSet = spriteSet;
+        this.remainingTicks = remainingTicks;
+        selectSpriteRandomly(spriteSet);
         maxAge = 5;
         particleRed = 1;
         particleGreen = 0;
         particleBlue = 0;
         particleAlpha = 0.1F;
-        //TODO: We probably want the 50,000 to scale with the max energy of the laser?
-        particleScale = (float) Math.min(energy / 50_000, 0.6);
+        particleScale = LaserParticleData.getScale(energy);
         halfLength = (float) (end.distance(start) / 2);
         direction = dir;
     }
 
+    @Override
+    public void tick() {
+        if (age == 0 && remainingTicks > 0) {
+            Minecraft.getInstance().particles.addEffect(new LaserParticle(world, start, end, direction, energy, spriteSet, remainingTicks - 1));
+        }
+        super.tick();
+    }
+
     @Override
     public void renderParticle(IVertexBuilder vertexBuilder, ActiveRenderInfo renderInfo, float partialTicks) {
         Vec3d view = renderInfo.getProjectedView();
@@ -96,9 +118,7 @@ public class LaserParticle extends SpriteTexturedParticle {
         public LaserParticle makeParticle(LaserParticleData data, @Nonnull World world, double x, double y, double z, double xSpeed, double ySpeed, double zSpeed) {
             Pos3D start = new Pos3D(x, y, z);
             Pos3D end = start.translate(data.direction, data.distance);
-            LaserParticle particleLaser = new LaserParticle(world, start, end, data.direction, data.energy);
-            particleLaser.selectSpriteRandomly(this.spriteSet);
-            return particleLaser;
+            return new LaserParticle(world, start, end, data.direction, data.energy, this.spriteSet, data.ticks - 1);
         }
     }
 }
\ No newline at end of file
@@ -2,12 +2,11 @@ package mekanism.client.render.obj;
 
 import com.google.common.collect.ImmutableList;
 import com.mojang.blaze3d.matrix.MatrixStack;
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
@@ -41,6 +40,26 @@ import net.minecraftforge.client.model.obj.OBJModel;
 
 public class TransmitterBakedModel implements IBakedModel {
 
+    private static final int CONNECTION_BITS = 2;
+    private static final int CONNECTION_MASK = (1 << CONNECTION_BITS) - 1;
+    private static final int COLOR_FLAG = 1 << (CONNECTION_BITS * EnumUtils.DIRECTIONS.length);
+    /**
+     * Names of the parts to show for each side and connection type, indexed by side ordinal and then by connection type ordinal. These are the same for every
+     * transmitter, so they only get built once instead of for each variant of each model.
+     */
+    private static final String[][] PART_NAMES = new String[EnumUtils.DIRECTIONS.length][];
+
+    static {
+        ConnectionType[] types = ConnectionType.values();
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            String[] names = new String[types.length];
+            for (ConnectionType type : types) {
+                names[type.ordinal()] = side.getName() + type.getName().toUpperCase(Locale.ROOT);
+            }
+            PART_NAMES[side.ordinal()] = names;
+        }
+    }
+
     private final OBJModel internal;
     @Nullable
     private final OBJModel glass;
@@ -52,7 +71,11 @@ public class TransmitterBakedModel implements IBakedModel {
     private final ResourceLocation modelLocation;
     private final IBakedModel bakedVariant;
 
-    private Int2ObjectMap<List<BakedQuad>> modelCache = new Int2ObjectOpenHashMap<>();
+    /**
+     * Quads of each variant that has been baked so far, indexed by the connection type of each side packed into {@link #CONNECTION_BITS} bits, plus {@link #COLOR_FLAG}
+     * if the glass should be shown. This gets read from all the chunk render threads at once, so entries are only ever set once and never removed.
+     */
+    private final AtomicReferenceArray<List<BakedQuad>> quadTable;
 
     public TransmitterBakedModel(OBJModel internal, @Nullable OBJModel glass, IModelConfiguration owner, ModelBakery bakery,
           Function<Material, TextureAtlasSprite> spriteGetter, IModelTransform modelTransform, ItemOverrideList overrides, ResourceLocation modelLocation) {
@@ -64,6 +87,8 @@ public class TransmitterBakedModel implements IBakedModel {
         this.modelTransform = modelTransform;
         this.overrides = overrides;
         this.modelLocation = modelLocation;
+        //Without glass the color flag makes no difference, so only make room for it when we have glass
+        quadTable = new AtomicReferenceArray<>(glass == null ? COLOR_FLAG : COLOR_FLAG << 1);
         //We define our baked variant to be how the item is. As we should always have model data when we have a state
         List<String> visible = Arrays.stream(EnumUtils.DIRECTIONS).map(side -> side.getName() + (side.getAxis() == Axis.Y ? "NORMAL" : "NONE")).collect(Collectors.toList());
         bakedVariant = internal.bake(new VisibleModelConfiguration(owner, visible), bakery, spriteGetter, modelTransform, overrides, modelLocation);
@@ -85,50 +110,47 @@ public class TransmitterBakedModel implements IBakedModel {
             if (extraData.hasProperty(ModelProperties.DOWN_CONNECTION) && extraData.hasProperty(ModelProperties.UP_CONNECTION) &&
                 extraData.hasProperty(ModelProperties.NORTH_CONNECTION) && extraData.hasProperty(ModelProperties.SOUTH_CONNECTION) &&
                 extraData.hasProperty(ModelProperties.WEST_CONNECTION) && extraData.hasProperty(ModelProperties.EAST_CONNECTION)) {
-                ConnectionType down = extraData.getData(ModelProperties.DOWN_CONNECTION);
-                ConnectionType up = extraData.getData(ModelProperties.UP_CONNECTION);
-                ConnectionType north = extraData.getData(ModelProperties.NORTH_CONNECTION);
-                ConnectionType south = extraData.getData(ModelProperties.SOUTH_CONNECTION);
-                ConnectionType west = extraData.getData(ModelProperties.WEST_CONNECTION);
-                ConnectionType east = extraData.getData(ModelProperties.EAST_CONNECTION);
-
-                RenderType layer = MinecraftForgeClient.getRenderLayer();
+                int key = 0;
+                key |= connectionBits(Direction.DOWN, extraData.getData(ModelProperties.DOWN_CONNECTION));
+                key |= connectionBits(Direction.UP, extraData.getData(ModelProperties.UP_CONNECTION));
+                key |= connectionBits(Direction.NORTH, extraData.getData(ModelProperties.NORTH_CONNECTION));
+                key |= connectionBits(Direction.SOUTH, extraData.getData(ModelProperties.SOUTH_CONNECTION));
+                key |= connectionBits(Direction.WEST, extraData.getData(ModelProperties.WEST_CONNECTION));
+                key |= connectionBits(Direction.EAST, extraData.getData(ModelProperties.EAST_CONNECTION));
+
                 boolean hasColor = false;
-                if (extraData.hasProperty(ModelProperties.COLOR) && layer == RenderType.translucent()) {
+                if (glass != null && extraData.hasProperty(ModelProperties.COLOR) && MinecraftForgeClient.getRenderLayer() == RenderType.translucent()) {
                     //Only try getting the color property for ones that will have a color
                     Boolean color = extraData.getData(ModelProperties.COLOR);
                     hasColor = color != null && color;
                 }
-
-                int hash = 1;
-                hash = hash * 31 + down.ordinal();
-                hash = hash * 31 + up.ordinal();
-                hash = hash * 31 + north.ordinal();
-                hash = hash * 31 + south.ordinal();
-                hash = hash * 31 + west.ordinal();
-                hash = hash * 31 + east.ordinal();
                 if (hasColor) {
-                    hash = hash * 31 + 1;
+                    key |= COLOR_FLAG;
                 }
-                if (!modelCache.containsKey(hash)) {
-                    List<String> visible = new ArrayList<>();
-                    visible.add(Direction.DOWN.getName() + down.getName().toUpperCase());
-                    visible.add(Direction.UP.getName() + up.getName().toUpperCase());
-                    visible.add(Direction.NORTH.getName() + north.getName().toUpperCase());
-                    visible.add(Direction.SOUTH.getName() + south.getName().toUpperCase());
-                    visible.add(Direction.WEST.getName() + west.getName().toUpperCase());
-                    visible.add(Direction.EAST.getName() + east.getName().toUpperCase());
-                    List<BakedQuad> result = bake(new TransmitterModelConfiguration(owner, visible, extraData), hasColor).getQuads(state, side, rand, extraData);
-                    modelCache.put(hash, result);
-                    return result;
+
+                List<BakedQuad> quads = quadTable.get(key);
+                if (quads == null) {
+                    String[] visible = new String[EnumUtils.DIRECTIONS.length];
+                    for (int i = 0; i < visible.length; i++) {
+                        visible[i] = PART_NAMES[i][(key >> (i * CONNECTION_BITS)) & CONNECTION_MASK];
+                    }
+                    quads = bake(new TransmitterModelConfiguration(owner, Arrays.asList(visible), extraData), hasColor).getQuads(state, side, rand, extraData);
+                    //If another thread baked the same variant at the same time, they are equivalent so just use whichever one got stored first
+                    if (!quadTable.compareAndSet(key, null, quads)) {
+                        quads = quadTable.get(key);
+                    }
                 }
-                return modelCache.get(hash);
+                return quads;
             }
             //TODO: print error about missing data?
         }
         return bakedVariant.getQuads(state, side, rand, extraData);
     }
 
+    private static int connectionBits(Direction side, ConnectionType type) {
+        return type.ordinal() << (side.ordinal() * CONNECTION_BITS);
+    }
+
     /**
      * Rotates the pieces that need rotating.
      */
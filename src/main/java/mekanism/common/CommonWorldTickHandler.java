@@ -1,14 +1,16 @@
 package mekanism.common;
 
-import it.unimi.dsi.fastutil.objects.Object2ObjectArrayMap;
-import java.util.LinkedList;
+import java.util.Collections;
 import java.util.Map;
-import java.util.Queue;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
 import mekanism.common.config.MekanismConfig;
+import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.frequency.FrequencyManager;
 import mekanism.common.multiblock.MultiblockManager;
 import mekanism.common.world.GenHandler;
+import mekanism.common.world.RetrogenQueue;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
@@ -20,29 +22,47 @@ import net.minecraftforge.eventbus.api.SubscribeEvent;
 
 public class CommonWorldTickHandler {
 
-    private static final long maximumDeltaTimeNanoSecs = 16_000_000; // 16 milliseconds
+    private static final long TARGET_TICK_NANOS = 50_000_000; // 50 milliseconds
 
-    //TODO: Check for concurrent modification issues? As addRegenChunk gets called from ChunkDataEvent.Load which is now fired from the async thread
-    private Map<ResourceLocation, Queue<ChunkPos>> chunkRegenMap;
+    //Note: addRegenChunk gets called from ChunkDataEvent.Load which is fired from the async chunk loading thread
+    private final Map<ResourceLocation, RetrogenQueue> chunkRegenMap = new ConcurrentHashMap<>();
 
     public void addRegenChunk(DimensionType dimension, ChunkPos chunkCoord) {
-        if (chunkRegenMap == null) {
-            chunkRegenMap = new Object2ObjectArrayMap<>();
-        }
-        ResourceLocation dimensionName = dimension.getRegistryName();
-        if (!chunkRegenMap.containsKey(dimensionName)) {
-            LinkedList<ChunkPos> list = new LinkedList<>();
-            list.add(chunkCoord);
-            chunkRegenMap.put(dimensionName, list);
-        } else if (!chunkRegenMap.get(dimensionName).contains(chunkCoord)) {
-            chunkRegenMap.get(dimensionName).add(chunkCoord);
-        }
+        //Add inside of compute so that we can't add to a queue that is being removed for being empty
+        chunkRegenMap.compute(dimension.getRegistryName(), (dimensionName, queue) -> {
+            if (queue == null) {
+                queue = new RetrogenQueue();
+            }
+            queue.add(chunkCoord);
+            return queue;
+        });
     }
 
     public void resetRegenChunks() {
-        if (chunkRegenMap != null) {
-            chunkRegenMap.clear();
+        chunkRegenMap.clear();
+    }
+
+    public Map<ResourceLocation, RetrogenQueue> getRegenChunks() {
+        return Collections.unmodifiableMap(chunkRegenMap);
+    }
+
+    /**
+     * Calculates how long this world may spend regenerating ores this tick. Half of the time the server has to spare, based on the average tick time, is split
+     * between the dimensions that have chunks waiting, capped by the configured maximum.
+     */
+    private long getRegenBudget(World world) {
+        long maxBudget = MekanismConfig.world.maxRetrogenTime.get() * 1_000_000L;
+        MinecraftServer server = world.getServer();
+        if (server == null) {
+            return maxBudget;
+        }
+        long[] tickTimes = server.tickTimeArray;
+        long totalTickTime = 0;
+        for (long tickTime : tickTimes) {
+            totalTickTime += tickTime;
         }
+        long headroom = TARGET_TICK_NANOS - totalTickTime / tickTimes.length;
+        return Math.min(maxBudget, Math.max(0, headroom / 2 / Math.max(1, chunkRegenMap.size())));
     }
 
     @SubscribeEvent
@@ -68,15 +88,18 @@ public class CommonWorldTickHandler {
         if (!world.isRemote) {
             MultiblockManager.tick(world);
             FrequencyManager.tick(world);
-            if (chunkRegenMap == null || !MekanismConfig.world.enableRegeneration.get()) {
+            TransporterManager.tick(world);
+            if (chunkRegenMap.isEmpty() || !MekanismConfig.world.enableRegeneration.get()) {
                 return;
             }
             ResourceLocation dimensionName = world.getDimension().getType().getRegistryName();
             //Credit to E. Beef
-            if (chunkRegenMap.containsKey(dimensionName)) {
-                Queue<ChunkPos> chunksToGen = chunkRegenMap.get(dimensionName);
+            RetrogenQueue chunksToGen = chunkRegenMap.get(dimensionName);
+            if (chunksToGen != null) {
+                long budget = getRegenBudget(world);
                 long startTime = System.nanoTime();
-                while (System.nanoTime() - startTime < maximumDeltaTimeNanoSecs && !chunksToGen.isEmpty()) {
+                //Always regenerate at least one chunk so that retrogen makes progress even when the server has no time to spare
+                do {
                     ChunkPos nextChunk = chunksToGen.poll();
                     if (nextChunk == null) {
                         break;
@@ -89,10 +112,8 @@ public class CommonWorldTickHandler {
                     if (GenHandler.generate((ServerWorld) world, fmlRandom, nextChunk.x, nextChunk.z)) {
                         Mekanism.logger.info("Regenerating ores at chunk " + nextChunk);
                     }
-                }
-                if (chunksToGen.isEmpty()) {
-                    chunkRegenMap.remove(dimensionName);
-                }
+                } while (System.nanoTime() - startTime < budget);
+                chunkRegenMap.computeIfPresent(dimensionName, (name, queue) -> queue.isEmpty() ? null : queue);
             }
         }
     }
@@ -1,6 +1,10 @@
 package mekanism.common;
 
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
 import mekanism.api.Coord4D;
 import mekanism.api.Pos3D;
 import mekanism.common.capabilities.Capabilities;
@@ -13,6 +17,7 @@ import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.DamageSource;
@@ -20,11 +25,13 @@ import net.minecraft.util.Direction;
 import net.minecraft.util.NonNullList;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.BlockRayTraceResult;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.RayTraceContext;
 import net.minecraft.util.math.RayTraceContext.BlockMode;
 import net.minecraft.util.math.RayTraceContext.FluidMode;
 import net.minecraft.util.math.RayTraceResult.Type;
 import net.minecraft.world.World;
+import net.minecraft.world.server.ChunkManager;
 import net.minecraft.world.server.ServerWorld;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.util.Constants.WorldEvents;
@@ -34,6 +41,21 @@ import net.minecraftforge.event.world.BlockEvent;
 // If above a certain energy level and in water makes it bubble
 public class LaserManager {
 
+    /**
+     * Number of ticks a beam that is not changing is sent to clients for at once. This has to be less than the lifetime of a laser particle so that the beam does
+     * not flicker, which is why changes to the beam can be shown a few ticks late.
+     */
+    private static final int BEAM_TICKS = 4;
+    /**
+     * Number of steps per block the width of a sent beam is compared in. The energy of a laser often changes slightly every tick, but that only matters to clients
+     * if it visibly changes how wide the beam is.
+     */
+    private static final int WIDTH_STEPS = 100;
+    /**
+     * The beam each laser source last sent to clients. Weak keys so that removed tiles do not need to be cleaned up.
+     */
+    private static final Map<TileEntity, SentBeam> sentBeams = new WeakHashMap<>();
+
     public static LaserInfo fireLaser(TileEntity source, Direction direction, double energy, World world) {
         Pos3D from = new Pos3D(source).centre().translate(direction, 0.501);
         ServerWorld serverWorld = (ServerWorld) world;
@@ -65,12 +87,32 @@ public class LaserManager {
         }
 
         //Tell the clients to render the laser
-        LaserParticleData data = new LaserParticleData(direction, to.distance(from), energy);
-        serverWorld.getPlayers().forEach(player ->
-              serverWorld.spawnParticle(player, data, true, from.x, from.y, from.z, 1, 0.0D, 0.0D, 0.0D, 0));
+        double distance = to.distance(from);
+        long time = world.getGameTime();
+        SentBeam sentBeam = sentBeams.get(source);
+        if (sentBeam == null || time >= sentBeam.showingUntil || !sentBeam.matches(direction, distance, energy)) {
+            sentBeams.put(source, new SentBeam(direction, distance, energy, time + BEAM_TICKS));
+            LaserParticleData data = new LaserParticleData(direction, distance, energy, BEAM_TICKS);
+            for (ServerPlayerEntity player : getTrackingPlayers(serverWorld, new ChunkPos(source.getPos()), new ChunkPos(new BlockPos(to)))) {
+                serverWorld.spawnParticle(player, data, true, from.x, from.y, from.z, 1, 0.0D, 0.0D, 0.0D, 0);
+            }
+        }
         return new LaserInfo(mop, foundEntity);
     }
 
+    /**
+     * Gets the players that are tracking either end of the beam.
+     */
+    private static Set<ServerPlayerEntity> getTrackingPlayers(ServerWorld world, ChunkPos sourceChunk, ChunkPos targetChunk) {
+        Set<ServerPlayerEntity> players = new ObjectOpenHashSet<>();
+        ChunkManager chunkManager = world.getChunkProvider().chunkManager;
+        chunkManager.getTrackingPlayers(sourceChunk, false).forEach(players::add);
+        if (!targetChunk.equals(sourceChunk)) {
+            chunkManager.getTrackingPlayers(targetChunk, false).forEach(players::add);
+        }
+        return players;
+    }
+
     public static List<ItemStack> breakBlock(Coord4D blockCoord, boolean dropAtBlock, World world, BlockPos laserPos) {
         if (!MekanismConfig.general.aestheticWorldDamage.get()) {
             return null;
@@ -104,6 +146,29 @@ public class LaserManager {
         return tile != null && tile.getCapability(Capabilities.LASER_RECEPTOR_CAPABILITY, side).isPresent();
     }
 
+    private static class SentBeam {
+
+        private final Direction direction;
+        private final double distance;
+        private final int width;
+        private final long showingUntil;
+
+        private SentBeam(Direction direction, double distance, double energy, long showingUntil) {
+            this.direction = direction;
+            this.distance = distance;
+            this.width = getWidth(energy);
+            this.showingUntil = showingUntil;
+        }
+
+        private boolean matches(Direction direction, double distance, double energy) {
+            return this.direction == direction && this.distance == distance && this.width == getWidth(energy);
+        }
+
+        private static int getWidth(double energy) {
+            return Math.round(LaserParticleData.getScale(energy) * WIDTH_STEPS);
+        }
+    }
+
     public static class LaserInfo {
 
         public BlockRayTraceResult movingPos;
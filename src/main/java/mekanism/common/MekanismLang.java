@@ -58,6 +58,9 @@ public enum MekanismLang implements ILangEntry {
     COMMAND_CHUNK_LOADED("command", "chunk.loaded"),
     COMMAND_CHUNK_UNLOADED("command", "chunk.unloaded"),
     COMMAND_DEBUG("command", "debug"),
+    COMMAND_PATH_CACHE("command", "path_cache"),
+    COMMAND_RETROGEN("command", "retrogen"),
+    COMMAND_RETROGEN_EMPTY("command", "retrogen.empty"),
     COMMAND_TEST_RULES("command", "testrules"),
     COMMAND_TP("command", "tp"),
     COMMAND_TPOP("command", "tpop"),
@@ -33,6 +33,7 @@ import mekanism.common.network.PacketScubaTankData;
 import mekanism.common.network.PacketSecurityMode;
 import mekanism.common.network.PacketSecurityUpdate;
 import mekanism.common.network.PacketTileEntity;
+import mekanism.common.network.PacketTileEntitySync;
 import mekanism.common.network.PacketTransmitterUpdate;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.ServerPlayerEntity;
@@ -170,6 +171,7 @@ public class PacketHandler {
 
         registerMessage(PacketMekanismTags.class, PacketMekanismTags::encode, PacketMekanismTags::decode, PacketMekanismTags::handle);
         registerMessage(PacketClearRecipeCache.class, PacketClearRecipeCache::encode, PacketClearRecipeCache::decode, PacketClearRecipeCache::handle);
+        registerMessage(PacketTileEntitySync.class, PacketTileEntitySync::encode, PacketTileEntitySync::decode, PacketTileEntitySync::handle);
     }
 
     private <MSG> void registerMessage(Class<MSG> type, BiConsumer<MSG, PacketBuffer> encoder, Function<PacketBuffer, MSG> decoder, BiConsumer<MSG, Supplier<Context>> consumer) {
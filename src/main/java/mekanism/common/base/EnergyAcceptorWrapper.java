@@ -1,6 +1,8 @@
 package mekanism.common.base;
 
 import java.util.Optional;
+import java.util.function.Consumer;
+import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
 import mekanism.api.energy.IStrictEnergyAcceptor;
 import mekanism.common.capabilities.Capabilities;
@@ -9,6 +11,7 @@ import mekanism.common.util.CapabilityUtils;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
+import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.energy.CapabilityEnergy;
 import net.minecraftforge.energy.IEnergyStorage;
 
@@ -17,25 +20,48 @@ public abstract class EnergyAcceptorWrapper implements IStrictEnergyAcceptor {
     public Coord4D coord;
 
     public static EnergyAcceptorWrapper get(TileEntity tile, Direction side) {
-        EnergyAcceptorWrapper wrapper = getNoCoord(tile, side);
+        return get(tile, side, null);
+    }
+
+    /**
+     * Gets an acceptor wrapper for the given side of the tile, and if one is found passes the capability backing it to the given consumer. This allows callers that hold
+     * onto the wrapper across ticks to listen for the capability being invalidated. Note that many tiles hand out a new capability each time it is queried and never
+     * invalidate it, so callers should not rely on the capability being invalidated.
+     *
+     * @param tile               - tile to get the acceptor of
+     * @param side               - side to get the acceptor on
+     * @param capabilityConsumer - consumer of the capability backing the wrapper, or null if the caller does not care about it
+     *
+     * @return the wrapped acceptor, or null if there is none
+     */
+    public static EnergyAcceptorWrapper get(TileEntity tile, Direction side, @Nullable Consumer<LazyOptional<?>> capabilityConsumer) {
+        EnergyAcceptorWrapper wrapper = getNoCoord(tile, side, capabilityConsumer);
         if (wrapper != null) {
             wrapper.coord = Coord4D.get(tile);
         }
         return wrapper;
     }
 
-    private static EnergyAcceptorWrapper getNoCoord(TileEntity tile, Direction side) {
+    private static EnergyAcceptorWrapper getNoCoord(TileEntity tile, Direction side, @Nullable Consumer<LazyOptional<?>> capabilityConsumer) {
         if (tile == null || tile.getWorld() == null) {
             return null;
         }
-        Optional<IStrictEnergyAcceptor> energyAcceptorCap = MekanismUtils.toOptional(CapabilityUtils.getCapability(tile, Capabilities.ENERGY_ACCEPTOR_CAPABILITY, side));
-        if (energyAcceptorCap.isPresent()) {
-            return new MekanismAcceptor(energyAcceptorCap.get());
+        LazyOptional<IStrictEnergyAcceptor> energyAcceptorCap = CapabilityUtils.getCapability(tile, Capabilities.ENERGY_ACCEPTOR_CAPABILITY, side);
+        Optional<IStrictEnergyAcceptor> energyAcceptor = MekanismUtils.toOptional(energyAcceptorCap);
+        if (energyAcceptor.isPresent()) {
+            if (capabilityConsumer != null) {
+                capabilityConsumer.accept(energyAcceptorCap);
+            }
+            return new MekanismAcceptor(energyAcceptor.get());
         }
         if (MekanismUtils.useForge()) {
-            Optional<IEnergyStorage> forgeEnergyCap = MekanismUtils.toOptional(CapabilityUtils.getCapability(tile, CapabilityEnergy.ENERGY, side));
-            if (forgeEnergyCap.isPresent()) {
-                return new ForgeAcceptor(forgeEnergyCap.get());
+            LazyOptional<IEnergyStorage> forgeEnergyCap = CapabilityUtils.getCapability(tile, CapabilityEnergy.ENERGY, side);
+            Optional<IEnergyStorage> forgeEnergy = MekanismUtils.toOptional(forgeEnergyCap);
+            if (forgeEnergy.isPresent()) {
+                if (capabilityConsumer != null) {
+                    capabilityConsumer.accept(forgeEnergyCap);
+                }
+                return new ForgeAcceptor(forgeEnergy.get());
             }
         }
         return null;
@@ -0,0 +1,81 @@
+package mekanism.common.base;
+
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import java.util.function.Function;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.ListNBT;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.common.util.Constants.NBT;
+
+/**
+ * Ordered set of block positions, used by the Electric Pump and Fluidic Plenisher to keep track of the blocks they have found. These can grow to tens of thousands of
+ * positions, so they are stored packed into longs both in memory and when saved.
+ */
+public class NodeSet {
+
+    private final LongLinkedOpenHashSet nodes = new LongLinkedOpenHashSet();
+
+    /**
+     * @return True if the position was not already in the set.
+     */
+    public boolean add(BlockPos pos) {
+        return nodes.add(pos.toLong());
+    }
+
+    public boolean contains(BlockPos pos) {
+        return nodes.contains(pos.toLong());
+    }
+
+    /**
+     * @return The position that has been in the set the longest. Only valid if the set is not empty.
+     */
+    public BlockPos getFirst() {
+        return BlockPos.fromLong(nodes.firstLong());
+    }
+
+    public void removeFirst() {
+        nodes.removeFirstLong();
+    }
+
+    /**
+     * Moves the given position to the end of the set, so that all the other positions come before it.
+     */
+    public void moveToLast(BlockPos pos) {
+        nodes.addAndMoveToLast(pos.toLong());
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    public boolean isEmpty() {
+        return nodes.isEmpty();
+    }
+
+    public void clear() {
+        nodes.clear();
+    }
+
+    public void write(CompoundNBT nbtTags, String key) {
+        if (!nodes.isEmpty()) {
+            nbtTags.putLongArray(key, nodes.toLongArray());
+        }
+    }
+
+    /**
+     * @param legacyReader Reads a position from the list of compounds the nodes used to be saved as, so that machines saved before they were packed keep their nodes.
+     */
+    public void read(CompoundNBT nbtTags, String key, Function<CompoundNBT, BlockPos> legacyReader) {
+        nodes.clear();
+        if (nbtTags.contains(key, NBT.TAG_LONG_ARRAY)) {
+            for (long node : nbtTags.getLongArray(key)) {
+                nodes.add(node);
+            }
+        } else if (nbtTags.contains(key, NBT.TAG_LIST)) {
+            ListNBT tagList = nbtTags.getList(key, NBT.TAG_COMPOUND);
+            for (int i = 0; i < tagList.size(); i++) {
+                add(legacyReader.apply(tagList.getCompound(i)));
+            }
+        }
+    }
+}
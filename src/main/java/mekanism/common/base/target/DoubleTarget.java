@@ -0,0 +1,34 @@
+package mekanism.common.base.target;
+
+import net.minecraft.util.Direction;
+
+/**
+ * Target for emitting an amount that is stored as a double, such as energy.
+ *
+ * @param <HANDLER> The Handler this target keeps track of.
+ * @param <EXTRA>   Any extra information this target may need to keep track of.
+ */
+public abstract class DoubleTarget<HANDLER, EXTRA> extends Target<HANDLER, EXTRA> {
+
+    /**
+     * Gives the handler on the specified side the given amount.
+     *
+     * @param handler The handler (should correspond with the side we are giving to).
+     * @param side    Side of handler to give.
+     * @param amount  Amount to give.
+     *
+     * @return The amount the handler actually accepted.
+     */
+    protected abstract double acceptAmount(HANDLER handler, Direction side, double amount);
+
+    /**
+     * Simulate inserting into the handler.
+     *
+     * @param handler The handler (should correspond with the side we are simulating).
+     * @param side    The side we are simulating
+     * @param extra   All the information we are inserting.
+     *
+     * @return The amount it was actually willing to accept.
+     */
+    protected abstract double simulate(HANDLER handler, Direction side, EXTRA extra);
+}
@@ -1,18 +1,17 @@
 package mekanism.common.base.target;
 
 import mekanism.common.base.EnergyAcceptorWrapper;
-import mekanism.common.base.SplitInfo;
 import net.minecraft.util.Direction;
 
-public class EnergyAcceptorTarget extends Target<EnergyAcceptorWrapper, Double, Double> {
+public class EnergyAcceptorTarget extends DoubleTarget<EnergyAcceptorWrapper, Double> {
 
     @Override
-    protected void acceptAmount(Direction side, SplitInfo<Double> splitInfo, Double amount) {
-        splitInfo.send(handlers.get(side).acceptEnergy(side, amount, false));
+    protected double acceptAmount(EnergyAcceptorWrapper wrapper, Direction side, double amount) {
+        return wrapper.acceptEnergy(side, amount, false);
     }
 
     @Override
-    protected Double simulate(EnergyAcceptorWrapper wrapper, Direction side, Double energyToSend) {
+    protected double simulate(EnergyAcceptorWrapper wrapper, Direction side, Double energyToSend) {
         return wrapper.acceptEnergy(side, energyToSend, true);
     }
-}
\ No newline at end of file
+}
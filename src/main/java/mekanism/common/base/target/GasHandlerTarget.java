@@ -4,22 +4,21 @@ import mekanism.api.Action;
 import mekanism.api.annotations.NonNull;
 import mekanism.api.gas.GasStack;
 import mekanism.api.gas.IGasHandler;
-import mekanism.common.base.SplitInfo;
 import net.minecraft.util.Direction;
 
-public class GasHandlerTarget extends Target<IGasHandler, Integer, @NonNull GasStack> {
+public class GasHandlerTarget extends IntegerTarget<IGasHandler, @NonNull GasStack> {
 
     public GasHandlerTarget(@NonNull GasStack type) {
         this.extra = type;
     }
 
     @Override
-    protected void acceptAmount(Direction side, SplitInfo<Integer> splitInfo, Integer amount) {
-        splitInfo.send(handlers.get(side).receiveGas(side, new GasStack(extra, amount), Action.EXECUTE));
+    protected int acceptAmount(IGasHandler handler, Direction side, int amount) {
+        return handler.receiveGas(side, new GasStack(extra, amount), Action.EXECUTE);
     }
 
     @Override
-    protected Integer simulate(IGasHandler handler, Direction side, @NonNull GasStack gasStack) {
+    protected int simulate(IGasHandler handler, Direction side, @NonNull GasStack gasStack) {
         return handler.receiveGas(side, gasStack, Action.SIMULATE);
     }
 }
\ No newline at end of file
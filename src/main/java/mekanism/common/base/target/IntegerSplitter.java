@@ -0,0 +1,103 @@
+package mekanism.common.base.target;
+
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.ints.IntComparator;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import net.minecraft.util.Direction;
+
+/**
+ * Splits an int amount fairly between the handlers of {@link IntegerTarget}s. The handlers that want less than an even split get all they want, and what they leave
+ * over is split evenly between the rest. The arrays used for this are kept between splits so that splitting does not need to allocate anything.
+ */
+public class IntegerSplitter {
+
+    private IntegerTarget<?, ?>[] targets = new IntegerTarget<?, ?>[0];
+    private Object[] handlers = new Object[0];
+    private Direction[] sides = new Direction[0];
+    private int[] demands = new int[0];
+    private int[] order = new int[0];
+    private int size;
+    private boolean inUse;
+    private final IntComparator byDemand = (a, b) -> Integer.compare(demands[a], demands[b]);
+
+    /**
+     * @return True if this splitter is currently splitting, for example because a handler emits to its own neighbors when it receives something.
+     */
+    public boolean isInUse() {
+        return inUse;
+    }
+
+    /**
+     * @param availableTargets The targets to distribute the amount fairly among.
+     * @param totalHandlers    The total number of handlers the targets have, used to size the arrays.
+     * @param amount           The amount to split between all the handlers.
+     * @param toSend           Any extra information such as gas stack or fluid stack.
+     *
+     * @return The amount that actually got sent.
+     */
+    public <EXTRA> int split(Collection<? extends IntegerTarget<?, EXTRA>> availableTargets, int totalHandlers, int amount, EXTRA toSend) {
+        inUse = true;
+        try {
+            ensureCapacity(totalHandlers);
+            //Simulate to find out how much each handler wants
+            for (IntegerTarget<?, EXTRA> target : availableTargets) {
+                addHandlers(target, toSend);
+            }
+            //Hand out amounts from the smallest demand to the largest, each getting at most an even split of what is left
+            IntArrays.quickSort(order, 0, size, byDemand);
+            int remaining = amount;
+            for (int i = 0; i < size && remaining > 0; i++) {
+                int index = order[i];
+                int toGive = Math.min(demands[index], remaining / (size - i));
+                if (toGive > 0) {
+                    remaining -= accept(targets[index], handlers[index], sides[index], toGive);
+                }
+            }
+            return amount - remaining;
+        } finally {
+            clear();
+            inUse = false;
+        }
+    }
+
+    private <HANDLER, EXTRA> void addHandlers(IntegerTarget<HANDLER, EXTRA> target, EXTRA toSend) {
+        for (Map.Entry<Direction, HANDLER> entry : target.getHandlers().entrySet()) {
+            int demand = target.simulate(entry.getValue(), entry.getKey(), toSend);
+            if (demand > 0) {
+                ensureCapacity(size + 1);
+                targets[size] = target;
+                handlers[size] = entry.getValue();
+                sides[size] = entry.getKey();
+                demands[size] = demand;
+                order[size] = size;
+                size++;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <HANDLER> int accept(IntegerTarget<HANDLER, ?> target, Object handler, Direction side, int amount) {
+        return target.acceptAmount((HANDLER) handler, side, amount);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > demands.length) {
+            int newCapacity = Math.max(capacity, 2 * demands.length);
+            targets = Arrays.copyOf(targets, newCapacity);
+            handlers = Arrays.copyOf(handlers, newCapacity);
+            sides = Arrays.copyOf(sides, newCapacity);
+            demands = Arrays.copyOf(demands, newCapacity);
+            order = Arrays.copyOf(order, newCapacity);
+        }
+    }
+
+    private void clear() {
+        //Don't hold onto the handlers after we are done with them
+        Arrays.fill(targets, 0, size, null);
+        Arrays.fill(handlers, 0, size, null);
+        Arrays.fill(sides, 0, size, null);
+        size = 0;
+    }
+}
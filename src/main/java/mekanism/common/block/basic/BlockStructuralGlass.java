@@ -46,7 +46,7 @@ public class BlockStructuralGlass extends BlockMekanism implements IHasModel, IH
                 ((TileEntityMekanism) tile).onNeighborChange(neighborBlock);
             }
             if (tile instanceof IStructuralMultiblock) {
-                ((IStructuralMultiblock) tile).doUpdate();
+                ((IStructuralMultiblock) tile).doUpdate(neighborPos);
             }
         }
     }
@@ -1,17 +1,28 @@
 package mekanism.common.chunkloading;
 
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.LongConsumer;
 import javax.annotation.ParametersAreNonnullByDefault;
 import mcp.MethodsReturnNonnullByDefault;
 import mekanism.common.Mekanism;
+import mekanism.common.tile.component.TileComponentChunkLoader;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.dimension.DimensionType;
+import net.minecraft.world.server.ServerChunkProvider;
 import net.minecraft.world.server.ServerWorld;
+import net.minecraft.world.server.TicketType;
 import net.minecraft.world.storage.WorldSavedData;
 import net.minecraftforge.common.util.Constants.NBT;
+import net.minecraftforge.event.TickEvent.Phase;
+import net.minecraftforge.event.TickEvent.WorldTickEvent;
 import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
@@ -33,10 +44,23 @@ public class ChunkManager extends WorldSavedData {
     private static final String CHUNK_LIST_KEY = "chunks";
     private static final Logger LOGGER = LogManager.getLogger("Mekanism ChunkManager");
     private static final String SAVEDATA_KEY = "mekanism_force_chunks";
-    ///** Ticket type to keep the chunk loaded initially for a short time, so the Chunkloaders can register theirs */
-    //private static final TicketType<ChunkPos> INITIAL_LOAD_TICKET_TYPE = TicketType.create("mekanism:initial_chunkload", Comparator.comparingLong(ChunkPos::asLong), 10);
+    /**
+     * Ticket type to load the chunks of chunk loaders when the world loads and keep them loaded until the chunk loaders have registered theirs
+     */
+    private static final TicketType<ChunkPos> INITIAL_LOAD_TICKET_TYPE = TicketType.create("mekanism:initial_chunkload", Comparator.comparingLong(ChunkPos::asLong));
+    /**
+     * Maximum number of chunk loaders to refresh per tick while restoring them after the world loaded
+     */
+    private static final int MAX_REFRESHES_PER_TICK = 32;
+    private static final Map<DimensionType, ChunkManager> RESTORING = new Object2ObjectOpenHashMap<>();
 
     private ChunkMultimap chunks = new ChunkMultimap();
+    /**
+     * Chunks that still have to finish loading so that their chunk loaders can be refreshed
+     */
+    private final LongArrayFIFOQueue pendingChunks = new LongArrayFIFOQueue();
+    private int restoringChunks;
+    private long restoreStartTime;
 
     public ChunkManager() {
         super(SAVEDATA_KEY);
@@ -69,24 +93,78 @@ public class ChunkManager extends WorldSavedData {
         if (event.getWorld() instanceof ServerWorld) {
             ServerWorld world = (ServerWorld) event.getWorld();
             ChunkManager savedData = getInstance(world);
+            if (savedData.chunks.isEmpty()) {
+                return;
+            }
             LOGGER.info("Loading {} chunks for dimension {}", savedData.chunks.size(), world.dimension.getType().getRegistryName());
+            //Ask for all the chunks to be loaded, they will then be loaded asynchronously and we refresh their chunk loaders as they finish loading
+            ServerChunkProvider chunkProvider = world.getChunkProvider();
+            savedData.pendingChunks.clear();
             savedData.chunks.keySet().forEach((LongConsumer) key -> {
-                //option 1 - for each position, find TE and get it to refresh chunks
-                Chunk chunk = world.getChunk((int) key, (int) (key >> 32));
-                for (BlockPos blockPos : savedData.chunks.get(key)) {
+                ChunkPos pos = new ChunkPos(key);
+                chunkProvider.registerTicket(INITIAL_LOAD_TICKET_TYPE, pos, TileComponentChunkLoader.TICKET_DISTANCE, pos);
+                savedData.pendingChunks.enqueue(key);
+            });
+            savedData.restoringChunks = savedData.pendingChunks.size();
+            savedData.restoreStartTime = System.nanoTime();
+            RESTORING.put(world.dimension.getType(), savedData);
+        }
+    }
+
+    @SubscribeEvent
+    public static void worldUnloadEvent(WorldEvent.Unload event) {
+        if (event.getWorld() instanceof ServerWorld) {
+            RESTORING.remove(((ServerWorld) event.getWorld()).dimension.getType());
+        }
+    }
+
+    @SubscribeEvent
+    public static void worldTickEvent(WorldTickEvent event) {
+        if (event.phase == Phase.END && event.world instanceof ServerWorld && !RESTORING.isEmpty()) {
+            ServerWorld world = (ServerWorld) event.world;
+            ChunkManager savedData = RESTORING.get(world.dimension.getType());
+            if (savedData != null && savedData.restoreChunkLoaders(world)) {
+                RESTORING.remove(world.dimension.getType());
+                LOGGER.info("Restored chunk loaders in {} chunks for dimension {} in {} ms", savedData.restoringChunks, world.dimension.getType().getRegistryName(),
+                      (System.nanoTime() - savedData.restoreStartTime) / 1_000_000);
+            }
+        }
+    }
+
+    /**
+     * Refreshes the chunk loaders of chunks that have finished loading, spreading the refreshes over multiple ticks.
+     *
+     * @return True if all chunk loaders have been restored.
+     */
+    private boolean restoreChunkLoaders(ServerWorld world) {
+        ServerChunkProvider chunkProvider = world.getChunkProvider();
+        int refreshed = 0;
+        //Only go through each pending chunk at most once per tick, so that we don't keep checking chunks that are still loading
+        for (int checks = pendingChunks.size(); checks > 0 && refreshed < MAX_REFRESHES_PER_TICK; checks--) {
+            long key = pendingChunks.dequeueLong();
+            //Note: getChunk would block until the chunk finished loading, as our ticket means it is already queued, so only grab chunks that are already done
+            Chunk chunk = chunkProvider.getChunkNow((int) key, (int) (key >> 32));
+            if (chunk == null) {
+                //Not done loading yet, check it again later
+                pendingChunks.enqueue(key);
+                continue;
+            }
+            Set<BlockPos> chunkLoaders = chunks.get(key);
+            if (chunkLoaders != null) {
+                for (BlockPos blockPos : chunkLoaders.toArray(new BlockPos[0])) {
                     TileEntity tileEntity = chunk.getTileEntity(blockPos);
                     if (tileEntity instanceof IChunkLoader) {
                         ((IChunkLoader) tileEntity).getChunkLoader().refreshChunkTickets();
+                        refreshed++;
                     } else {
                         LOGGER.warn("Tile at {} was either null or not an IChunkLoader?! Tile: {}", blockPos, tileEntity);
                     }
                 }
-
-                //option 2 - add a separate ticket (which has a timout) to let the chunk tick for a short while (chunkloader will refresh if it's able)
-                /*ChunkPos pos = new ChunkPos(key);
-                world.getChunkProvider().registerTicket(INITIAL_LOAD_TICKET_TYPE, pos, TileComponentChunkLoader.TICKET_DISTANCE, pos);*/
-            });
+            }
+            ChunkPos pos = new ChunkPos(key);
+            chunkProvider.releaseTicket(INITIAL_LOAD_TICKET_TYPE, pos, TileComponentChunkLoader.TICKET_DISTANCE, pos);
         }
+        return pendingChunks.isEmpty();
     }
 
     public static ChunkManager getInstance(ServerWorld world) {
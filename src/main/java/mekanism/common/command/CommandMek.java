@@ -7,8 +7,11 @@ import java.util.Map;
 import java.util.Stack;
 import java.util.UUID;
 import mekanism.api.MekanismAPI;
+import mekanism.common.Mekanism;
 import mekanism.common.MekanismLang;
+import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.util.text.BooleanStateDisplay.OnOff;
+import mekanism.common.world.RetrogenQueue;
 import net.minecraft.client.entity.player.ClientPlayerEntity;
 import net.minecraft.command.CommandSource;
 import net.minecraft.command.Commands;
@@ -17,6 +20,7 @@ import net.minecraft.command.arguments.Vec3Argument;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.GameRules;
@@ -34,6 +38,8 @@ public class CommandMek {
               .then(TestRulesCommand.register())
               .then(TpCommand.register())
               .then(TppopCommand.register())
+              .then(RetrogenCommand.register())
+              .then(PathCacheCommand.register())
               .then(ChunkCommand.register());
     }
 
@@ -119,6 +125,42 @@ public class CommandMek {
         }
     }
 
+    private static class RetrogenCommand {
+
+        static ArgumentBuilder<CommandSource, ?> register() {
+            return Commands.literal("retrogen")
+                  .requires(cs -> cs.hasPermissionLevel(4))
+                  .executes(ctx -> {
+                      CommandSource source = ctx.getSource();
+                      Map<ResourceLocation, RetrogenQueue> regenChunks = Mekanism.worldTickHandler.getRegenChunks();
+                      if (regenChunks.isEmpty()) {
+                          source.sendFeedback(MekanismLang.COMMAND_RETROGEN_EMPTY.translate(), true);
+                      }
+                      for (Map.Entry<ResourceLocation, RetrogenQueue> entry : regenChunks.entrySet()) {
+                          RetrogenQueue queue = entry.getValue();
+                          long generated = queue.getGenerated();
+                          long seconds = queue.getSecondsRemaining();
+                          String eta = seconds < 0 ? "--:--:--" : String.format("%d:%02d:%02d", seconds / 3_600, (seconds / 60) % 60, seconds % 60);
+                          source.sendFeedback(MekanismLang.COMMAND_RETROGEN.translate(entry.getKey(), generated, generated + queue.getRemaining(), eta), true);
+                      }
+                      return 0;
+                  });
+        }
+    }
+
+    private static class PathCacheCommand {
+
+        static ArgumentBuilder<CommandSource, ?> register() {
+            return Commands.literal("pathcache")
+                  .requires(cs -> cs.hasPermissionLevel(4))
+                  .executes(ctx -> {
+                      ctx.getSource().sendFeedback(MekanismLang.COMMAND_PATH_CACHE.translate(PathfinderCache.getCachedPathCount(), PathfinderCache.getHits(),
+                            PathfinderCache.getMisses()), true);
+                      return 0;
+                  });
+        }
+    }
+
     private static void teleport(Entity player, double x, double y, double z) {
         if (player instanceof ServerPlayerEntity) {
             ServerPlayerEntity mp = (ServerPlayerEntity) player;
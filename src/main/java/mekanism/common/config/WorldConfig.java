@@ -10,6 +10,7 @@ public class WorldConfig extends BaseMekanismConfig {
     private final ForgeConfigSpec configSpec;
     public final CachedBooleanValue enableRegeneration;
     public final CachedIntValue userGenVersion;
+    public final CachedIntValue maxRetrogenTime;
     public final OreConfig copper;
     public final OreConfig osmium;
     public final OreConfig tin;
@@ -23,6 +24,8 @@ public class WorldConfig extends BaseMekanismConfig {
               .define("enableRegeneration", false));
         userGenVersion = CachedIntValue.wrap(this, builder.comment("Change this value to cause Mekanism to regen its ore in all loaded chunks.")
               .defineInRange("userWorldGenVersion", 0, 0, Integer.MAX_VALUE));
+        maxRetrogenTime = CachedIntValue.wrap(this, builder.comment("Maximum number of milliseconds per world tick to spend regenerating ores. Less time is used when the server does not have enough spare time per tick.")
+              .defineInRange("maxRetrogenTime", 16, 1, 50));
         copper = new OreConfig(this, builder, "copper", true, 16, 8, 0, 0, 60);
         osmium = new OreConfig(this, builder, "osmium", true, 12, 8, 0, 0, 60);
         tin = new OreConfig(this, builder, "tin", true, 14, 8, 0, 0, 60);
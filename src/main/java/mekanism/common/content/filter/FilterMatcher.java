@@ -0,0 +1,92 @@
+package mekanism.common.content.filter;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.IntSupplier;
+
+/**
+ * Lookup table of which filters in a list may match a given key, such as an item or a block state. A key only gets checked against each filter the first time it is
+ * looked up, after that it is a single hash lookup. The table is thrown away when the filters or the loaded tags change.
+ *
+ * @param <KEY>    The type of the keys, these are compared by identity.
+ * @param <FILTER> The type of the filters.
+ */
+public class FilterMatcher<KEY, FILTER extends IFilter<?>> {
+
+    private static final int[] NO_MATCHES = new int[0];
+
+    private final List<FILTER> filters = new ObjectArrayList<>();
+    private final Map<KEY, int[]> matches = new Reference2ObjectOpenHashMap<>();
+    private final BiPredicate<FILTER, KEY> matcher;
+    private final IntSupplier tagGeneration;
+    private int lastTagGeneration;
+
+    /**
+     * @param matcher       Checks if a filter may match a key, this should only depend on the filter and the key.
+     * @param tagGeneration Supplies the generation of the tags the filters use, so that we know when they got reloaded.
+     */
+    public FilterMatcher(BiPredicate<FILTER, KEY> matcher, IntSupplier tagGeneration) {
+        this.matcher = matcher;
+        this.tagGeneration = tagGeneration;
+        this.lastTagGeneration = tagGeneration.getAsInt();
+    }
+
+    /**
+     * Makes sure the lookup table is for the given filters, clearing it if the filters or tags changed since it was last used. Filters are compared by identity, as
+     * editing a filter replaces it with a new one.
+     *
+     * @param current The filters in the order they should be checked.
+     *
+     * @return True if the filters or tags changed, and the lookup table was cleared.
+     */
+    public boolean update(Iterable<? extends FILTER> current) {
+        boolean changed = false;
+        int index = 0;
+        for (FILTER filter : current) {
+            if (index >= filters.size() || filters.get(index) != filter) {
+                changed = true;
+                break;
+            }
+            index++;
+        }
+        int generation = tagGeneration.getAsInt();
+        if (changed || index != filters.size() || generation != lastTagGeneration) {
+            filters.clear();
+            current.forEach(filters::add);
+            matches.clear();
+            lastTagGeneration = generation;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return The indices of the filters that may match the given key, in the order of the filters.
+     */
+    public int[] getMatches(KEY key) {
+        int[] indices = matches.get(key);
+        if (indices == null) {
+            IntArrayList matching = new IntArrayList();
+            for (int i = 0; i < filters.size(); i++) {
+                if (matcher.test(filters.get(i), key)) {
+                    matching.add(i);
+                }
+            }
+            indices = matching.isEmpty() ? NO_MATCHES : matching.toIntArray();
+            matches.put(key, indices);
+        }
+        return indices;
+    }
+
+    public FILTER getFilter(int index) {
+        return filters.get(index);
+    }
+
+    public int getFilterCount() {
+        return filters.size();
+    }
+}
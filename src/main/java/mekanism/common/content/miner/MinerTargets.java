@@ -0,0 +1,75 @@
+package mekanism.common.content.miner;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import java.util.List;
+import javax.annotation.Nullable;
+import net.minecraft.block.BlockState;
+
+/**
+ * Queue of the blocks a Digital Miner still has to mine. Targets are stored as packed positions in the order the search found them, which groups them by chunk
+ * section, along with the state each block had when it was found and the filter that matched it.
+ */
+public class MinerTargets {
+
+    private final LongArrayList positions = new LongArrayList();
+    private final List<BlockState> states = new ObjectArrayList<>();
+    private final List<MinerFilter<?>> filters = new ObjectArrayList<>();
+    private int head;
+
+    public void add(long pos, BlockState state, @Nullable MinerFilter<?> filter) {
+        positions.add(pos);
+        states.add(state);
+        filters.add(filter);
+    }
+
+    public boolean isEmpty() {
+        return head >= positions.size();
+    }
+
+    public int size() {
+        return positions.size() - head;
+    }
+
+    /**
+     * @return The packed position of the next target. Only valid if the queue is not empty.
+     */
+    public long getPos() {
+        return positions.getLong(head);
+    }
+
+    /**
+     * @return The state the next target had when it was found and matched against the filters.
+     */
+    public BlockState getState() {
+        return states.get(head);
+    }
+
+    /**
+     * @return The filter that matched the next target, or null if no filter matched it.
+     */
+    @Nullable
+    public MinerFilter<?> getFilter() {
+        return filters.get(head);
+    }
+
+    /**
+     * Moves on to the next target.
+     */
+    public void pop() {
+        //Drop the references we no longer need so the states and filters can be collected
+        states.set(head, null);
+        filters.set(head, null);
+        head++;
+        if (isEmpty()) {
+            clear();
+        }
+    }
+
+    public void clear() {
+        positions.clear();
+        states.clear();
+        filters.clear();
+        head = 0;
+    }
+}
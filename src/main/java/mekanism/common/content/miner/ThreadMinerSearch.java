@@ -1,40 +1,65 @@
 package mekanism.common.content.miner;
 
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import java.util.BitSet;
-import java.util.Map;
-import mekanism.api.Chunk3D;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
 import mekanism.api.Coord4D;
 import mekanism.api.text.IHasTextComponent;
 import mekanism.common.HashList;
+import mekanism.common.Mekanism;
 import mekanism.common.MekanismLang;
 import mekanism.common.base.ILangEntry;
-import mekanism.common.tile.TileEntityBoundingBlock;
+import mekanism.common.block.BlockBounding;
 import mekanism.common.tile.TileEntityDigitalMiner;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.FlowingFluidBlock;
-import net.minecraft.item.ItemStack;
+import net.minecraft.item.Item;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.ITextComponent;
-import net.minecraft.world.Region;
-import net.minecraft.world.dimension.DimensionType;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkSection;
 import net.minecraftforge.fluids.IFluidBlock;
 
 public class ThreadMinerSearch extends Thread {
 
+    /**
+     * Pool shared by all miners that searches the chunk sections of a miner's volume in parallel.
+     */
+    private static final ForkJoinPool SECTION_SEARCHERS = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() / 2), pool -> {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("Mekanism Miner Search-" + thread.getPoolIndex());
+        thread.setDaemon(true);
+        return thread;
+    }, null, false);
+
+    /**
+     * Marks a block state that should never be mined, such as air, fluids, unbreakable blocks, or blocks that are a replace target.
+     */
+    private static final int SKIP = -2;
+    /**
+     * Marks a block state that does not match any filter.
+     */
+    private static final int NO_FILTER = -1;
+
     private TileEntityDigitalMiner tile;
 
     public State state = State.IDLE;
 
-    private Map<Chunk3D, BitSet> oresToMine = new Object2ObjectOpenHashMap<>();
-    private Int2ObjectMap<MinerFilter<?>> replaceMap = new Int2ObjectOpenHashMap<>();
-    private Map<Block, MinerFilter<?>> acceptedItems = new Object2ObjectOpenHashMap<>();
-    private DimensionType dimensionType;
-    private Region chunkCache;
+    private MinerTargets targets = new MinerTargets();
+    private List<Chunk> chunks;
 
     public int found = 0;
 
@@ -42,9 +67,11 @@ public class ThreadMinerSearch extends Thread {
         this.tile = tile;
     }
 
-    public void setChunkCache(Region cache, DimensionType dimensionType) {
-        this.chunkCache = cache;
-        this.dimensionType = dimensionType;
+    /**
+     * Sets the chunks to search. These should be gotten on the main thread, as loading chunks from the search thread is not safe.
+     */
+    public void setChunks(List<Chunk> chunks) {
+        this.chunks = chunks;
     }
 
     @Override
@@ -57,81 +84,151 @@ public class ThreadMinerSearch extends Thread {
         }
         Coord4D coord = tile.getStartingCoord();
         int diameter = tile.getDiameter();
-        int size = tile.getTotalSize();
-        Block info;
-        BlockPos minerPos = tile.getPos();
-
-        for (int i = 0; i < size; i++) {
-            if (tile.isRemoved()) {
-                //Make sure the miner is still valid and something hasn't gone wrong
-                return;
-            }
-            int x = coord.x + i % diameter;
-            int z = coord.z + (i / diameter) % diameter;
-            int y = coord.y + (i / diameter / diameter);
-            if (minerPos.getX() == x && minerPos.getY() == y && minerPos.getZ() == z) {
-                //Skip the miner itself
-                continue;
+        int maxY = coord.y + tile.getTotalSize() / (diameter * diameter) - 1;
+        MinerFilter<?>[] filterArray = new MinerFilter<?>[filters.size()];
+        Set<Item> replaceItems = new ObjectOpenHashSet<>();
+        for (int i = 0; i < filterArray.length; i++) {
+            MinerFilter<?> filter = filters.get(i);
+            filterArray[i] = filter;
+            if (!filter.replaceStack.isEmpty()) {
+                replaceItems.add(filter.replaceStack.getItem());
             }
+        }
 
-            BlockPos testPos = new BlockPos(x, y, z);
-            //TODO: verify that we don't need to check if the block is loaded. Probably got removed given a region is a cache
-            if (/*!chunkCache.isBlockLoaded(testPos) || */MekanismUtils.getTileEntity(TileEntityBoundingBlock.class, chunkCache, testPos) != null) {
-                //If it is not loaded or it is a bounding block skip it
-                continue;
-            }
-
-            BlockState state = chunkCache.getBlockState(testPos);
-            info = state.getBlock();
-
-            if (info instanceof FlowingFluidBlock || info instanceof IFluidBlock || info.isAir(state, chunkCache, testPos)) {
-                //Skip air and liquids
-                continue;
+        List<Future<SectionResult>> results = new ArrayList<>();
+        for (Chunk chunk : chunks) {
+            ChunkSection[] sections = chunk.getSections();
+            for (int sectionY = Math.max(0, coord.y >> 4), maxSectionY = Math.min(sections.length - 1, maxY >> 4); sectionY <= maxSectionY; sectionY++) {
+                ChunkSection section = sections[sectionY];
+                if (!ChunkSection.isEmpty(section)) {
+                    results.add(SECTION_SEARCHERS.submit(new SectionSearch(chunk, section, coord, diameter, maxY, filterArray, replaceItems)));
+                }
             }
+        }
 
-            if (state.getBlockHardness(chunkCache, testPos) >= 0) {
-                MinerFilter<?> filterFound = null;
-                if (acceptedItems.containsKey(info)) {
-                    filterFound = acceptedItems.get(info);
-                } else {
-                    ItemStack stack = new ItemStack(info);
-                    if (tile.isReplaceStack(stack)) {
-                        continue;
-                    }
-                    for (MinerFilter<?> filter : filters) {
-                        if (filter.canFilter(state)) {
-                            filterFound = filter;
-                            break;
-                        }
-                    }
-                    acceptedItems.put(info, filterFound);
+        try {
+            for (Future<SectionResult> result : results) {
+                if (tile.isRemoved()) {
+                    //Make sure the miner is still valid and something hasn't gone wrong
+                    cancel(results);
+                    return;
                 }
-                if (tile.inverse == (filterFound == null)) {
-                    set(i, new Coord4D(x, y, z, dimensionType));
-                    replaceMap.put(i, filterFound);
+                //Results are merged in the order the sections were submitted, so the targets stay grouped by chunk
+                SectionResult sectionResult = result.get();
+                for (int i = 0, size = sectionResult.positions.size(); i < size; i++) {
+                    int filterIndex = sectionResult.filters.getInt(i);
+                    targets.add(sectionResult.positions.getLong(i), sectionResult.states.get(i), filterIndex == NO_FILTER ? null : filterArray[filterIndex]);
                     found++;
                 }
             }
+        } catch (InterruptedException e) {
+            cancel(results);
+            return;
+        } catch (ExecutionException e) {
+            Mekanism.logger.error("Digital Miner search failed", e);
+            cancel(results);
+            return;
         }
 
         state = State.FINISHED;
-        tile.oresToMine = oresToMine;
-        tile.replaceMap = replaceMap;
-        chunkCache = null;
-        dimensionType = null;
+        tile.targets = targets;
+        chunks = null;
         MekanismUtils.saveChunk(tile);
     }
 
-    public void set(int i, Coord4D location) {
-        Chunk3D chunk = new Chunk3D(location);
-        oresToMine.computeIfAbsent(chunk, k -> new BitSet());
-        oresToMine.get(chunk).set(i);
+    private static void cancel(List<Future<SectionResult>> results) {
+        for (Future<SectionResult> result : results) {
+            result.cancel(false);
+        }
     }
 
     public void reset() {
         state = State.IDLE;
-        chunkCache = null;
-        dimensionType = null;
+        chunks = null;
+    }
+
+    private class SectionSearch implements Callable<SectionResult> {
+
+        private final Chunk chunk;
+        private final ChunkSection section;
+        private final Coord4D start;
+        private final int diameter;
+        private final int maxY;
+        private final MinerFilter<?>[] filters;
+        private final Set<Item> replaceItems;
+
+        private SectionSearch(Chunk chunk, ChunkSection section, Coord4D start, int diameter, int maxY, MinerFilter<?>[] filters, Set<Item> replaceItems) {
+            this.chunk = chunk;
+            this.section = section;
+            this.start = start;
+            this.diameter = diameter;
+            this.maxY = maxY;
+            this.filters = filters;
+            this.replaceItems = replaceItems;
+        }
+
+        @Override
+        public SectionResult call() {
+            SectionResult result = new SectionResult();
+            //Block states only appear a handful of times in a section's palette, so only work out once per state whether it should be mined
+            Reference2IntMap<BlockState> stateFilters = new Reference2IntOpenHashMap<>();
+            stateFilters.defaultReturnValue(Integer.MIN_VALUE);
+            BlockPos minerPos = tile.getPos();
+            BlockPos.Mutable testPos = new BlockPos.Mutable();
+            int chunkX = chunk.getPos().getXStart();
+            int chunkZ = chunk.getPos().getZStart();
+            int sectionY = section.getYLocation();
+            int minX = Math.max(chunkX, start.x), maxX = Math.min(chunkX + 15, start.x + diameter - 1);
+            int minZ = Math.max(chunkZ, start.z), maxZ = Math.min(chunkZ + 15, start.z + diameter - 1);
+            int minY = Math.max(sectionY, start.y), maxY = Math.min(sectionY + 15, this.maxY);
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    for (int x = minX; x <= maxX; x++) {
+                        BlockState state = section.getBlockState(x & 15, y & 15, z & 15);
+                        int filterIndex = stateFilters.getInt(state);
+                        if (filterIndex == Integer.MIN_VALUE) {
+                            filterIndex = getFilterIndex(state, testPos.setPos(x, y, z));
+                            stateFilters.put(state, filterIndex);
+                        }
+                        if (filterIndex == SKIP || tile.inverse == (filterIndex != NO_FILTER)) {
+                            continue;
+                        }
+                        if (minerPos.getX() == x && minerPos.getY() == y && minerPos.getZ() == z) {
+                            //Skip the miner itself
+                            continue;
+                        }
+                        result.positions.add(BlockPos.pack(x, y, z));
+                        result.states.add(state);
+                        result.filters.add(filterIndex);
+                    }
+                }
+            }
+            return result;
+        }
+
+        private int getFilterIndex(BlockState state, BlockPos pos) {
+            Block info = state.getBlock();
+            if (info instanceof BlockBounding || info instanceof FlowingFluidBlock || info instanceof IFluidBlock || info.isAir(state, chunk, pos)) {
+                //Skip bounding blocks, air and liquids
+                return SKIP;
+            }
+            if (state.getBlockHardness(chunk, pos) < 0 || replaceItems.contains(info.asItem())) {
+                return SKIP;
+            }
+            for (int i = 0; i < filters.length; i++) {
+                if (filters[i].canFilter(state)) {
+                    return i;
+                }
+            }
+            return NO_FILTER;
+        }
+    }
+
+    private static class SectionResult {
+
+        private final LongArrayList positions = new LongArrayList();
+        private final List<BlockState> states = new ObjectArrayList<>();
+        private final IntArrayList filters = new IntArrayList();
     }
 
     public enum State implements IHasTextComponent {
@@ -151,4 +248,4 @@ public class ThreadMinerSearch extends Thread {
             return langEntry.translate();
         }
     }
-}
\ No newline at end of file
+}
@@ -1,37 +1,116 @@
 package mekanism.common.content.transporter;
 
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import mekanism.api.Coord4D;
+import mekanism.common.util.EnumUtils;
 import net.minecraft.util.Direction;
 
 public class PathfinderCache {
 
-    private static Map<PathData, List<Coord4D>> cachedPaths = new Object2ObjectOpenHashMap<>();
+    /**
+     * The maximum number of paths to keep cached, once this is exceeded the least recently used path gets evicted.
+     */
+    private static final int MAX_CACHED_PATHS = 4_096;
 
+    private static Object2ObjectLinkedOpenHashMap<PathData, List<Coord4D>> cachedPaths = new Object2ObjectLinkedOpenHashMap<>();
+    /**
+     * Cached paths indexed by each position they pass through, so that a change only evicts the paths that it may affect.
+     */
+    private static Map<Coord4D, Set<PathData>> pathsByLocation = new Object2ObjectOpenHashMap<>();
+    private static long hits;
+    private static long misses;
+
+    /**
+     * Evicts any cached paths that pass through or are next to the changed location.
+     *
+     * @param location The location of the transporter that changed.
+     */
     public static void onChanged(Coord4D location) {
-        reset();
+        removePathsAt(location);
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            //Also evict paths next to the change, as a new transporter may give them a shorter route
+            removePathsAt(location.offset(side));
+        }
+    }
+
+    private static void removePathsAt(Coord4D location) {
+        Set<PathData> paths = pathsByLocation.remove(location);
+        if (paths != null) {
+            for (PathData data : paths) {
+                removePath(data);
+            }
+        }
     }
 
     public static void addCachedPath(PathData data, List<Coord4D> coords) {
-        cachedPaths.put(data, coords);
+        List<Coord4D> previous = cachedPaths.putAndMoveToLast(data, coords);
+        if (previous != null) {
+            removeFromIndex(data, previous);
+        }
+        for (Coord4D coord : coords) {
+            pathsByLocation.computeIfAbsent(coord, c -> new ObjectOpenHashSet<>()).add(data);
+        }
+        while (cachedPaths.size() > MAX_CACHED_PATHS) {
+            PathData eldest = cachedPaths.firstKey();
+            removePath(eldest);
+        }
     }
 
     public static List<Coord4D> getCache(Coord4D start, Coord4D end, Set<Direction> sides) {
         List<Coord4D> ret = null;
         for (Direction side : sides) {
-            List<Coord4D> test = cachedPaths.get(new PathData(start, end, side));
+            List<Coord4D> test = cachedPaths.getAndMoveToLast(new PathData(start, end, side));
             if (ret == null || (test != null && test.size() < ret.size())) {
                 ret = test;
             }
         }
+        if (ret == null) {
+            misses++;
+        } else {
+            hits++;
+        }
         return ret;
     }
 
+    private static void removePath(PathData data) {
+        List<Coord4D> path = cachedPaths.remove(data);
+        if (path != null) {
+            removeFromIndex(data, path);
+        }
+    }
+
+    private static void removeFromIndex(PathData data, List<Coord4D> path) {
+        for (Coord4D coord : path) {
+            Set<PathData> paths = pathsByLocation.get(coord);
+            //Note: paths may be null if we are in the middle of evicting everything at this location
+            if (paths != null && paths.remove(data) && paths.isEmpty()) {
+                pathsByLocation.remove(coord);
+            }
+        }
+    }
+
+    public static int getCachedPathCount() {
+        return cachedPaths.size();
+    }
+
+    public static long getHits() {
+        return hits;
+    }
+
+    public static long getMisses() {
+        return misses;
+    }
+
     public static void reset() {
         cachedPaths.clear();
+        pathsByLocation.clear();
+        hits = 0;
+        misses = 0;
     }
 
     public static class PathData {
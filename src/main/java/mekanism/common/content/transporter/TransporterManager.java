@@ -1,10 +1,12 @@
 package mekanism.common.content.transporter;
 
 import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.EnumMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -21,25 +23,86 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
 import net.minecraft.util.NonNullList;
+import net.minecraft.world.World;
+import net.minecraft.world.dimension.DimensionType;
 import net.minecraftforge.items.IItemHandler;
 import org.apache.commons.lang3.tuple.Pair;
 
 public class TransporterManager {
 
     private static Map<Coord4D, Set<TransporterStack>> flowingStacks = new Object2ObjectOpenHashMap<>();
+    /**
+     * Projected contents of destinations, per side, after all the stacks flowing to them have been inserted. These are only valid for the tick they were made in, and
+     * are kept up to date as stacks start flowing to the destination so that predicting an insert does not have to replay every in-flight stack each time.
+     */
+    private static Map<Coord4D, Map<Direction, InventoryInfo>> projections = new Object2ObjectOpenHashMap<>();
 
     public static void reset() {
         flowingStacks.clear();
+        projections.clear();
     }
 
     public static void add(TransporterStack stack) {
-        flowingStacks.computeIfAbsent(stack.getDest(), k -> new ObjectOpenHashSet<>()).add(stack);
+        Coord4D dest = stack.getDest();
+        flowingStacks.computeIfAbsent(dest, k -> new ObjectOpenHashSet<>()).add(stack);
+        Map<Direction, InventoryInfo> sideProjections = projections.get(dest);
+        if (sideProjections != null) {
+            for (InventoryInfo inventoryInfo : sideProjections.values()) {
+                inventoryInfo.addFlowingStack(stack);
+            }
+        }
     }
 
     public static void remove(TransporterStack stack) {
         if (stack.hasPath() && stack.getPathType() != Path.NONE) {
-            flowingStacks.get(stack.getDest()).remove(stack);
+            Coord4D dest = stack.getDest();
+            flowingStacks.get(dest).remove(stack);
+            //The stack either got inserted or is going somewhere else, we can't tell how much of it is in the inventory now so just drop the projection
+            projections.remove(dest);
+        }
+    }
+
+    /**
+     * Called when the contents of an inventory change, so that we don't keep predicting inserts based on what it used to contain.
+     */
+    public static void onInventoryChanged(TileEntity tile) {
+        if (!projections.isEmpty() && tile.getWorld() != null) {
+            projections.remove(Coord4D.get(tile));
+        }
+    }
+
+    /**
+     * Drops the projections in the given world, as they are out of date once the tick ends.
+     */
+    public static void tick(World world) {
+        if (!projections.isEmpty()) {
+            DimensionType dimension = world.getDimension().getType();
+            projections.keySet().removeIf(coord -> coord.dimension == dimension);
+        }
+    }
+
+    private static InventoryInfo getProjection(TileEntity tile, IItemHandler handler, Direction side) {
+        Coord4D coord = Coord4D.get(tile);
+        long gameTime = tile.getWorld().getGameTime();
+        Map<Direction, InventoryInfo> sideProjections = projections.computeIfAbsent(coord, k -> new EnumMap<>(Direction.class));
+        InventoryInfo inventoryInfo = sideProjections.get(side);
+        if (inventoryInfo == null || inventoryInfo.gameTime != gameTime || inventoryInfo.inventory.size() != handler.getSlots()) {
+            //Information about the inventory, keeps track of the size of a stack a slot will have, and
+            // a cache of what getStackInSlot returns (as it has to call it anyways to get the stack size).
+            // This cache allows potentially expensive getStackInSlot implementations to only have to be called
+            // once instead of potentially many times.
+            inventoryInfo = new InventoryInfo(handler, gameTime);
+            //For each of the in-flight stacks, simulate their insert into the tile entity. Note that stackSizes
+            // for inventoryInfo is updated each time
+            Set<TransporterStack> transporterStacks = flowingStacks.get(coord);
+            if (transporterStacks != null) {
+                for (TransporterStack stack : transporterStacks) {
+                    inventoryInfo.addFlowingStack(stack);
+                }
+            }
+            sideProjections.put(side, inventoryInfo);
         }
+        return inventoryInfo;
     }
 
     /**
@@ -94,12 +157,12 @@ public class TransporterManager {
             int mergedCount = count + destCount;
             if (mergedCount > max) {
                 // Not all the items will fit; put max in and save leftovers
-                inventoryInfo.stackSizes.set(i, max);
+                inventoryInfo.setStackSize(i, max);
                 count = mergedCount - max;
                 stack.setCount(count);
             } else {
                 // All items will fit; set the destination count as the new combined amount
-                inventoryInfo.stackSizes.set(i, mergedCount);
+                inventoryInfo.setStackSize(i, mergedCount);
                 if (count != originalCount) {
                     //Set the stack size back to what it was when we got it
                     stack.setCount(originalCount);
@@ -148,57 +211,61 @@ public class TransporterManager {
         }
 
         // Before we see if this item can fit in the destination, we must first check the stacks that are
-        // en-route. Note that we also have to simulate the current inventory after each stack; we'll keep
-        // track of the initial size of the inventory and then simulate each in-flight addition. If any
+        // en-route. Rather than simulating each in-flight addition every time, we get the projected contents
+        // of the inventory after all of them, which is kept up to date as stacks start flowing to it. If any
         // in-flight stack can't be inserted, that we can fail fast.
-
-        //Information about the inventory, keeps track of the size of a stack a slot will have, and
-        // a cache of what getStackInSlot returns (as it has to call it anyways to get the stack size).
-        // This cache allows potentially expensive getStackInSlot implementations to only have to be called
-        // once instead of potentially many times.
-        InventoryInfo inventoryInfo = new InventoryInfo(handler);
-
-        //For each of the in-flight stacks, simulate their insert into the tile entity. Note that stackSizes
-        // for inventoryInfo is updated each time
-        Set<TransporterStack> transporterStacks = flowingStacks.get(Coord4D.get(tile));
-        if (transporterStacks != null) {
-            for (TransporterStack stack : transporterStacks) {
-                if (stack != null && stack.getPathType() != Path.NONE) {
-                    if (simulateInsert(handler, inventoryInfo, stack.itemStack, stack.itemStack.getCount()) > 0) {
-                        // Failed to successfully insert this in-flight item; there's no room for anyone else
-                        return TransitResponse.EMPTY;
-                    }
-                }
-            }
+        InventoryInfo inventoryInfo = getProjection(tile, handler, side);
+        if (inventoryInfo.full) {
+            // Failed to successfully insert an in-flight item; there's no room for anyone else
+            return TransitResponse.EMPTY;
         }
 
-        // Now for each of the items in the request, simulate the insert, using the state from all the in-flight
-        // items to ensure we have an accurate model of what will happen in future. We try each stack in the
-        // request; it might be possible to not send the first item, but the second could work, etc.
-        for (Entry<HashedItem, Pair<Integer, Int2IntMap>> requestEntry : request.getItemMap().entrySet()) {
-            // Create a sending ItemStack with the hashed item type and total item count within the request
-            ItemStack stack = requestEntry.getKey().getStack();
-            int numToSend = requestEntry.getValue().getLeft();
-            //Directly pass the stack AND the actual amount we want, so that it does not need to copy the stack if there is no room
-            int numLeftOver = simulateInsert(handler, inventoryInfo, stack, numToSend);
+        //Keep track of the slots the request changes so that we can put the projection back afterwards
+        inventoryInfo.startSimulating();
+        try {
+            // Now for each of the items in the request, simulate the insert, using the state from all the in-flight
+            // items to ensure we have an accurate model of what will happen in future. We try each stack in the
+            // request; it might be possible to not send the first item, but the second could work, etc.
+            for (Entry<HashedItem, Pair<Integer, Int2IntMap>> requestEntry : request.getItemMap().entrySet()) {
+                // Create a sending ItemStack with the hashed item type and total item count within the request
+                ItemStack stack = requestEntry.getKey().getStack();
+                int numToSend = requestEntry.getValue().getLeft();
+                //Directly pass the stack AND the actual amount we want, so that it does not need to copy the stack if there is no room
+                int numLeftOver = simulateInsert(handler, inventoryInfo, stack, numToSend);
 
-            // If leftovers is unchanged from the simulation, there's no room at all; move on to the next stack
-            if (numLeftOver == numToSend) {
-                continue;
-            }
+                // If leftovers is unchanged from the simulation, there's no room at all; move on to the next stack
+                if (numLeftOver == numToSend) {
+                    continue;
+                }
 
-            // Otherwise, construct the appropriately size stack to send and return that
-            return new TransitResponse(StackUtils.size(stack, numToSend - numLeftOver), requestEntry.getValue().getRight());
+                // Otherwise, construct the appropriately size stack to send and return that
+                return new TransitResponse(StackUtils.size(stack, numToSend - numLeftOver), requestEntry.getValue().getRight());
+            }
+        } finally {
+            inventoryInfo.revert();
         }
         return TransitResponse.EMPTY;
     }
 
     private static class InventoryInfo {
 
+        private final IItemHandler handler;
+        private final long gameTime;
         public NonNullList<ItemStack> inventory;
         public IntList stackSizes = new IntArrayList();
+        /**
+         * Slots changed while simulating a request, mapped to the size they had before it.
+         */
+        private final Int2IntMap changedSlots = new Int2IntOpenHashMap();
+        private boolean simulating;
+        /**
+         * True if one of the stacks flowing to the inventory does not fit.
+         */
+        private boolean full;
 
-        public InventoryInfo(IItemHandler handler) {
+        public InventoryInfo(IItemHandler handler, long gameTime) {
+            this.handler = handler;
+            this.gameTime = gameTime;
             inventory = NonNullList.withSize(handler.getSlots(), ItemStack.EMPTY);
             for (int i = 0; i < handler.getSlots(); i++) {
                 ItemStack stack = handler.getStackInSlot(i);
@@ -206,5 +273,33 @@ public class TransporterManager {
                 stackSizes.add(stack.getCount());
             }
         }
+
+        private void addFlowingStack(TransporterStack stack) {
+            if (!full && stack != null && stack.getPathType() != Path.NONE) {
+                full = simulateInsert(handler, this, stack.itemStack, stack.itemStack.getCount()) > 0;
+            }
+        }
+
+        private void setStackSize(int slot, int size) {
+            if (simulating && !changedSlots.containsKey(slot)) {
+                changedSlots.put(slot, stackSizes.getInt(slot));
+            }
+            stackSizes.set(slot, size);
+        }
+
+        private void startSimulating() {
+            simulating = true;
+        }
+
+        /**
+         * Puts back the sizes of the slots changed since we started simulating.
+         */
+        private void revert() {
+            for (Int2IntMap.Entry entry : changedSlots.int2IntEntrySet()) {
+                stackSizes.set(entry.getIntKey(), entry.getIntValue());
+            }
+            changedSlots.clear();
+            simulating = false;
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,20 +1,28 @@
 package mekanism.common.content.transporter;
 
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
+import java.util.function.IntToDoubleFunction;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
+import mekanism.api.text.EnumColor;
 import mekanism.common.base.ILogisticalTransporter;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.content.transporter.PathfinderCache.PathData;
@@ -22,6 +30,7 @@ import mekanism.common.content.transporter.TransitRequest.TransitResponse;
 import mekanism.common.content.transporter.TransporterPathfinder.Pathfinder.DestChecker;
 import mekanism.common.content.transporter.TransporterStack.Path;
 import mekanism.common.tile.TileEntityLogisticalSorter;
+import mekanism.common.transmitters.TransporterImpl;
 import mekanism.common.transmitters.grid.InventoryNetwork;
 import mekanism.common.transmitters.grid.InventoryNetwork.AcceptorData;
 import mekanism.common.util.CapabilityUtils;
@@ -31,6 +40,7 @@ import mekanism.common.util.MekanismUtils;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.IChunk;
 import org.apache.commons.lang3.tuple.Pair;
@@ -45,10 +55,26 @@ public final class TransporterPathfinder {
         Long2ObjectMap<IChunk> chunkMap = new Long2ObjectOpenHashMap<>();
         List<AcceptorData> acceptors = network.calculateAcceptors(request, stack, chunkMap);
         List<Destination> paths = new ArrayList<>();
+        List<AcceptorData> uncached = new ArrayList<>();
         for (AcceptorData data : acceptors) {
-            Destination path = getPath(data, start, stack, min, chunkMap);
-            if (path != null) {
-                paths.add(path);
+            if (data.getResponse().getSendingAmount() >= min) {
+                Destination path = getCachedPath(data, start, stack, chunkMap);
+                if (path == null) {
+                    uncached.add(data);
+                } else {
+                    paths.add(path);
+                }
+            }
+        }
+        //Only search the path tree if some of the destinations do not have a cached path, and only as far as those destinations need
+        if (!uncached.isEmpty()) {
+            PathTree tree = network.getPathTree(start.coord(), stack.color);
+            tree.search(uncached);
+            for (AcceptorData data : uncached) {
+                Destination path = getTreePath(data, start, stack, chunkMap, tree);
+                if (path != null) {
+                    paths.add(path);
+                }
             }
         }
         Collections.sort(paths);
@@ -71,29 +97,46 @@ public final class TransporterPathfinder {
         return true;
     }
 
-    private static Destination getPath(AcceptorData data, ILogisticalTransporter start, TransporterStack stack, int min, Long2ObjectMap<IChunk> chunkMap) {
+    @Nullable
+    private static Destination getCachedPath(AcceptorData data, ILogisticalTransporter start, TransporterStack stack, Long2ObjectMap<IChunk> chunkMap) {
+        List<Coord4D> test = PathfinderCache.getCache(start.coord(), data.getLocation(), data.getSides());
+        if (test != null && checkPath(start.world(), test, stack, chunkMap)) {
+            return new Destination(test, false, data.getResponse(), 0).calculateScore(start.world(), chunkMap);
+        }
+        return null;
+    }
+
+    @Nullable
+    private static Destination getTreePath(AcceptorData data, ILogisticalTransporter start, TransporterStack stack, Long2ObjectMap<IChunk> chunkMap, PathTree pathTree) {
         TransitResponse response = data.getResponse();
-        if (response.getSendingAmount() >= min) {
-            Coord4D dest = data.getLocation();
-            List<Coord4D> test = PathfinderCache.getCache(start.coord(), dest, data.getSides());
-            if (test != null && checkPath(start.world(), test, stack, chunkMap)) {
-                return new Destination(test, false, response, 0).calculateScore(start.world(), chunkMap);
-            }
-            Pathfinder p = new Pathfinder(new DestChecker() {
-                @Override
-                public boolean isValid(TransporterStack stack, Direction dir, TileEntity tile) {
-                    return InventoryUtils.canInsert(tile, stack.color, response.getStack(), dir, false);
-                }
-            }, start.world(), dest, start.coord(), stack, chunkMap);
-            List<Coord4D> path = p.getPath();
-            if (path.size() >= 2) {
-                PathfinderCache.addCachedPath(new PathData(start.coord(), dest, p.getSide()), path);
-                return new Destination(path, false, response, p.finalScore);
+        Coord4D dest = data.getLocation();
+        TileEntity destTile = MekanismUtils.getTileEntity(start.world(), chunkMap, dest);
+        Direction bestSide = null;
+        int bestNode = -1;
+        for (Direction side : data.getSides()) {
+            //The side is the direction from the transporter to the destination
+            int node = pathTree.getNode(dest.offset(side.getOpposite()));
+            if (node != -1 && (bestNode == -1 || pathTree.getScore(node) < pathTree.getScore(bestNode)) && canEmitFrom(start.world(), chunkMap, dest, side, destTile)
+                && InventoryUtils.canInsert(destTile, stack.color, response.getStack(), side, false)) {
+                bestSide = side;
+                bestNode = node;
             }
         }
+        if (bestSide != null) {
+            List<Coord4D> path = pathTree.getPath(dest, bestNode);
+            PathfinderCache.addCachedPath(new PathData(start.coord(), dest, bestSide), path);
+            //Score the same way as the A* search, the distance from the last transporter to the destination is always one
+            return new Destination(path, false, response, pathTree.getScore(bestNode) + 1);
+        }
         return null;
     }
 
+    private static boolean canEmitFrom(World world, Long2ObjectMap<IChunk> chunkMap, Coord4D dest, Direction side, TileEntity destTile) {
+        TileEntity tile = MekanismUtils.getTileEntity(world, chunkMap, dest.offset(side.getOpposite()));
+        Optional<ILogisticalTransporter> capability = MekanismUtils.toOptional(CapabilityUtils.getCapability(tile, Capabilities.LOGISTICAL_TRANSPORTER_CAPABILITY, null));
+        return capability.isPresent() && capability.get().canEmitTo(destTile, side);
+    }
+
     @Nullable
     public static Destination getNewBasePath(ILogisticalTransporter start, TransporterStack stack, TransitRequest request, int min) {
         List<Destination> paths = getPaths(start, stack, request, min);
@@ -312,14 +355,24 @@ public final class TransporterPathfinder {
 
     public static class Pathfinder {
 
-        private final Set<Coord4D> openSet, closedSet;
-        private final Map<Coord4D, Coord4D> navMap;
-        private final Object2DoubleOpenHashMap<Coord4D> gScore, fScore;
+        private final Long2IntMap nodeIndices = new Long2IntOpenHashMap();
+        private final BlockPos.Mutable mutablePos = new BlockPos.Mutable();
         private final Coord4D start;
         private final Coord4D finalNode;
         private final TransporterStack transportStack;
         private final DestChecker destChecker;
 
+        //Information about the nodes we have reached, indexed by the order we reached them in
+        private int nodeCount;
+        private int[] nodeX = new int[16];
+        private int[] nodeY = new int[16];
+        private int[] nodeZ = new int[16];
+        private int[] parents = new int[16];
+        private double[] gScore = new double[16];
+        private double[] fScore = new double[16];
+        private boolean[] closed = new boolean[16];
+        private final NodeHeap openSet = new NodeHeap(node -> fScore[node]);
+
         private double finalScore;
         private Direction side;
         private List<Coord4D> results;
@@ -334,13 +387,7 @@ public final class TransporterPathfinder {
 
             transportStack = stack;
 
-            openSet = new ObjectOpenHashSet<>();
-            closedSet = new ObjectOpenHashSet<>();
-
-            navMap = new Object2ObjectOpenHashMap<>();
-
-            gScore = new Object2DoubleOpenHashMap<>();
-            fScore = new Object2DoubleOpenHashMap<>();
+            nodeIndices.defaultReturnValue(-1);
 
             results = new ArrayList<>();
 
@@ -348,10 +395,11 @@ public final class TransporterPathfinder {
         }
 
         public boolean find(Long2ObjectMap<IChunk> chunkMap, Coord4D start) {
-            openSet.add(start);
-            gScore.put(start, 0D);
+            int startNode = getOrAddNode(start.x, start.y, start.z);
+            gScore[startNode] = 0;
             //Note: This is gScore + estimate, but given our gScore starts at zero we just skip getting it back out
-            fScore.put(start, start.distanceTo(finalNode));
+            fScore[startNode] = distanceToFinal(startNode);
+            openSet.add(startNode);
             boolean hasValidDirection = false;
             TileEntity startTile = MekanismUtils.getTileEntity(world, chunkMap, start);
             for (Direction direction : EnumUtils.DIRECTIONS) {
@@ -361,7 +409,7 @@ public final class TransporterPathfinder {
                     //If we can insert into the transporter, mark that we have a valid path we can take
                     hasValidDirection = true;
                     break;
-                } else if (isValidDestination(start, startTile, direction, neighbor, neighborTile)) {
+                } else if (isValidDestination(startNode, startTile, direction, neighbor.x, neighbor.y, neighbor.z, neighborTile)) {
                     //Otherwise if we are neighboring our destination, and we can emit to the location or it is going back
                     // to its home location and can connect to it just exit early and return that this is the best path
                     return true;
@@ -373,31 +421,24 @@ public final class TransporterPathfinder {
             }
             double maxSearchDistance = 2 * start.distanceTo(finalNode);
             while (!openSet.isEmpty()) {
-                Coord4D currentNode = null;
-                double lowestFScore = 0;
-                for (Coord4D node : openSet) {
-                    if (currentNode == null || fScore.getDouble(node) < lowestFScore) {
-                        currentNode = node;
-                        lowestFScore = fScore.getDouble(node);
-                    }
-                }
-                if (currentNode == null) {
-                    //If we have no current node, then exit
-                    break;
-                }
-                //Remove the current node from unchecked and add it to checked
-                openSet.remove(currentNode);
-                closedSet.add(currentNode);
-                if (start.distanceTo(currentNode) > maxSearchDistance) {
+                //Remove the node with the lowest fScore from unchecked and add it to checked
+                int currentNode = openSet.poll();
+                closed[currentNode] = true;
+                int currentX = nodeX[currentNode];
+                int currentY = nodeY[currentNode];
+                int currentZ = nodeZ[currentNode];
+                if (distance(start.x - currentX, start.y - currentY, start.z - currentZ) > maxSearchDistance) {
                     //If it is too far away for us to keep considering then continue on and see if we have another path that may be valid
                     // Even if it currently has a bit higher of a score
                     continue;
                 }
-                TileEntity currentNodeTile = MekanismUtils.getTileEntity(world, chunkMap, currentNode);
-                double currentScore = gScore.getDouble(currentNode);
+                TileEntity currentNodeTile = MekanismUtils.getTileEntity(world, chunkMap, mutablePos.setPos(currentX, currentY, currentZ));
+                double currentScore = gScore[currentNode];
                 for (Direction direction : EnumUtils.DIRECTIONS) {
-                    Coord4D neighbor = currentNode.offset(direction);
-                    TileEntity neighborEntity = MekanismUtils.getTileEntity(world, chunkMap, neighbor);
+                    int neighborX = currentX + direction.getXOffset();
+                    int neighborY = currentY + direction.getYOffset();
+                    int neighborZ = currentZ + direction.getZOffset();
+                    TileEntity neighborEntity = MekanismUtils.getTileEntity(world, chunkMap, mutablePos.setPos(neighborX, neighborY, neighborZ));
                     if (transportStack.canInsertToTransporter(neighborEntity, direction, currentNodeTile)) {
                         //If the neighbor is a transporter and the stack is valid for it
                         double tentativeG = currentScore;
@@ -406,17 +447,21 @@ public final class TransporterPathfinder {
                         if (capability.isPresent()) {
                             tentativeG += capability.get().getCost();
                         }
-                        if (closedSet.contains(neighbor) && tentativeG >= gScore.getDouble(neighbor)) {
+                        int neighbor = nodeIndices.get(mutablePos.toLong());
+                        if (neighbor == -1) {
+                            neighbor = getOrAddNode(neighborX, neighborY, neighborZ);
+                        } else if (tentativeG >= gScore[neighbor] && (closed[neighbor] || openSet.contains(neighbor))) {
+                            //We already have a path to the neighbor that is at least as good
                             continue;
                         }
-                        if (!openSet.contains(neighbor) || tentativeG < gScore.getDouble(neighbor)) {
-                            navMap.put(neighbor, currentNode);
-                            gScore.put(neighbor, tentativeG);
-                            //Put the gScore plus estimate in the final score
-                            fScore.put(neighbor, tentativeG + neighbor.distanceTo(finalNode));
-                            openSet.add(neighbor);
-                        }
-                    } else if (isValidDestination(currentNode, currentNodeTile, direction, neighbor, neighborEntity)) {
+                        parents[neighbor] = currentNode;
+                        gScore[neighbor] = tentativeG;
+                        //Put the gScore plus estimate in the final score
+                        fScore[neighbor] = tentativeG + distanceToFinal(neighbor);
+                        closed[neighbor] = false;
+                        //Adds the node, or moves it to match its new score if it was already waiting to be checked
+                        openSet.add(neighbor);
+                    } else if (isValidDestination(currentNode, currentNodeTile, direction, neighborX, neighborY, neighborZ, neighborEntity)) {
                         //Else if the neighbor is the destination and we can send to it
                         return true;
                     }
@@ -425,14 +470,49 @@ public final class TransporterPathfinder {
             return false;
         }
 
+        /**
+         * Gets the index of the node at the given position, adding it if we have not reached it yet.
+         */
+        private int getOrAddNode(int x, int y, int z) {
+            long key = mutablePos.setPos(x, y, z).toLong();
+            int node = nodeIndices.get(key);
+            if (node == -1) {
+                node = nodeCount++;
+                if (node == nodeX.length) {
+                    int newLength = node * 2;
+                    nodeX = Arrays.copyOf(nodeX, newLength);
+                    nodeY = Arrays.copyOf(nodeY, newLength);
+                    nodeZ = Arrays.copyOf(nodeZ, newLength);
+                    parents = Arrays.copyOf(parents, newLength);
+                    gScore = Arrays.copyOf(gScore, newLength);
+                    fScore = Arrays.copyOf(fScore, newLength);
+                    closed = Arrays.copyOf(closed, newLength);
+                }
+                nodeX[node] = x;
+                nodeY[node] = y;
+                nodeZ[node] = z;
+                parents[node] = -1;
+                nodeIndices.put(key, node);
+            }
+            return node;
+        }
+
+        private double distanceToFinal(int node) {
+            return distance(nodeX[node] - finalNode.x, nodeY[node] - finalNode.y, nodeZ[node] - finalNode.z);
+        }
+
+        private static double distance(int subX, int subY, int subZ) {
+            return MathHelper.sqrt(subX * subX + subY * subY + subZ * subZ);
+        }
+
         /**
          * Checks if we have a valid connection to the destination and are able to emit to it. If we are this updates the side and results to the proper values.
          *
          * @return True if we found a valid connection to the destination and can insert into it, false otherwise
          */
-        private boolean isValidDestination(Coord4D start, TileEntity startTile, Direction direction, Coord4D neighbor, TileEntity neighborTile) {
+        private boolean isValidDestination(int node, TileEntity startTile, Direction direction, int neighborX, int neighborY, int neighborZ, TileEntity neighborTile) {
             //Check to make sure that it is the destination
-            if (neighbor.equals(finalNode) && destChecker.isValid(transportStack, direction, neighborTile)) {
+            if (neighborX == finalNode.x && neighborY == finalNode.y && neighborZ == finalNode.z && destChecker.isValid(transportStack, direction, neighborTile)) {
                 Optional<ILogisticalTransporter> startTransporter = MekanismUtils.toOptional(CapabilityUtils.getCapability(startTile,
                       Capabilities.LOGISTICAL_TRANSPORTER_CAPABILITY, null));
                 if (startTransporter.isPresent()) {
@@ -443,7 +523,7 @@ public final class TransporterPathfinder {
                         // and we can connect to it (normal, push, or pull (should always be pull as otherwise canEmitTo would have been true)),
                         // then this is the proper path so we mark it as so and return true indicating that we found and marked the ideal path
                         side = direction;
-                        results = reconstructPath(navMap, start);
+                        results = reconstructPath(node);
                         return true;
                     }
                 }
@@ -451,13 +531,13 @@ public final class TransporterPathfinder {
             return false;
         }
 
-        private List<Coord4D> reconstructPath(Map<Coord4D, Coord4D> naviMap, Coord4D currentNode) {
+        private List<Coord4D> reconstructPath(int currentNode) {
             List<Coord4D> path = new ArrayList<>();
-            path.add(currentNode);
-            if (naviMap.containsKey(currentNode)) {
-                path.addAll(reconstructPath(naviMap, naviMap.get(currentNode)));
+            finalScore = gScore[currentNode] + distanceToFinal(currentNode);
+            //Walk back along the nodes we came from until we reach the start
+            for (int node = currentNode; node != -1; node = parents[node]) {
+                path.add(new Coord4D(nodeX[node], nodeY[node], nodeZ[node], finalNode.dimension));
             }
-            finalScore = gScore.getDouble(currentNode) + currentNode.distanceTo(finalNode);
             return path;
         }
 
@@ -478,5 +558,291 @@ public final class TransporterPathfinder {
                 return false;
             }
         }
+
+    }
+
+    /**
+     * Cheapest paths from one transporter to the transporters a stack of a given color can reach from it. Each destination is then found by walking back from the
+     * transporter next to it, so one search serves every destination instead of running a separate A* search per destination. The search only runs until it has
+     * settled the transporters next to the destinations it has been asked about, and picks up where it left off when it is asked about destinations it has not
+     * reached yet.
+     */
+    public static class PathTree {
+
+        private final Long2IntMap nodeIndices = new Long2IntOpenHashMap();
+        private final BlockPos.Mutable mutablePos = new BlockPos.Mutable();
+        private final InventoryNetwork network;
+        private final Coord4D start;
+        @Nullable
+        private final EnumColor color;
+        /**
+         * Nodes we stopped at because they were too far away for the destinations asked about so far. They get searched from again if we get asked about destinations
+         * that are further away.
+         */
+        private final IntList deferredNodes = new IntArrayList();
+        private long searchRangeSq = -1;
+        private long lastUsed;
+
+        //Information about the nodes we have reached, indexed by the order we reached them in
+        private int nodeCount;
+        private int[] nodeX = new int[16];
+        private int[] nodeY = new int[16];
+        private int[] nodeZ = new int[16];
+        private int[] parents = new int[16];
+        private double[] gScore = new double[16];
+        private boolean[] closed = new boolean[16];
+        private boolean[] deferred = new boolean[16];
+        private final NodeHeap openSet = new NodeHeap(node -> gScore[node]);
+
+        public PathTree(InventoryNetwork network, Coord4D start, @Nullable EnumColor color) {
+            this.network = network;
+            this.start = start;
+            this.color = color;
+            nodeIndices.defaultReturnValue(-1);
+            int startNode = getOrAddNode(start.x, start.y, start.z);
+            gScore[startNode] = 0;
+            openSet.add(startNode);
+        }
+
+        /**
+         * Continues the search until the cheapest paths to the transporters next to the given destinations are known. Like the single destination search, transporters
+         * more than twice as far from the start as the furthest destination are not searched through, so unreachable destinations do not flood the whole network.
+         */
+        public void search(List<AcceptorData> destinations) {
+            LongSet pending = new LongOpenHashSet();
+            long furthestSq = 0;
+            for (AcceptorData data : destinations) {
+                Coord4D dest = data.getLocation();
+                furthestSq = Math.max(furthestSq, distanceSq(dest.x, dest.y, dest.z));
+                for (Direction side : data.getSides()) {
+                    long key = BlockPos.pack(dest.x - side.getXOffset(), dest.y - side.getYOffset(), dest.z - side.getZOffset());
+                    int node = nodeIndices.get(key);
+                    if (node == -1 || !closed[node]) {
+                        pending.add(key);
+                    }
+                }
+            }
+            if (pending.isEmpty()) {
+                return;
+            }
+            //Twice the distance, squared
+            long rangeSq = 4 * furthestSq;
+            if (rangeSq > searchRangeSq) {
+                searchRangeSq = rangeSq;
+                //Pick back up from the nodes that were out of range before but are not anymore
+                for (int i = deferredNodes.size() - 1; i >= 0; i--) {
+                    int node = deferredNodes.getInt(i);
+                    if (distanceSq(nodeX[node], nodeY[node], nodeZ[node]) <= searchRangeSq) {
+                        deferred[node] = false;
+                        deferredNodes.set(i, deferredNodes.getInt(deferredNodes.size() - 1));
+                        deferredNodes.removeInt(deferredNodes.size() - 1);
+                        openSet.add(node);
+                    }
+                }
+            }
+            while (!pending.isEmpty() && !openSet.isEmpty()) {
+                //Remove the node with the lowest gScore, as all costs are positive its gScore can no longer improve
+                int currentNode = openSet.poll();
+                int currentX = nodeX[currentNode];
+                int currentY = nodeY[currentNode];
+                int currentZ = nodeZ[currentNode];
+                if (distanceSq(currentX, currentY, currentZ) > searchRangeSq) {
+                    //Too far away for now, but keep track of it in case we get asked about further destinations
+                    if (!deferred[currentNode]) {
+                        deferred[currentNode] = true;
+                        deferredNodes.add(currentNode);
+                    }
+                    continue;
+                }
+                closed[currentNode] = true;
+                pending.remove(BlockPos.pack(currentX, currentY, currentZ));
+                expand(currentNode, new Coord4D(currentX, currentY, currentZ, start.dimension));
+            }
+        }
+
+        private void expand(int currentNode, Coord4D current) {
+            //Look the transporters up in the network rather than the world, as the network already knows where they all are
+            TransporterImpl currentTransporter = network.getTransporter(current);
+            if (currentTransporter == null) {
+                return;
+            }
+            TileEntity currentNodeTile = currentTransporter.getTileEntity();
+            double currentScore = gScore[currentNode];
+            for (Direction direction : EnumUtils.DIRECTIONS) {
+                Coord4D neighborCoord = current.offset(direction);
+                TransporterImpl neighborTransporter = network.getTransporter(neighborCoord);
+                if (neighborTransporter != null && !neighborTransporter.getTileEntity().isRemoved() && canPassThrough(neighborTransporter, direction, currentNodeTile)) {
+                    double tentativeG = currentScore + neighborTransporter.getCost();
+                    int neighbor = nodeIndices.get(mutablePos.setPos(neighborCoord.x, neighborCoord.y, neighborCoord.z).toLong());
+                    if (neighbor == -1) {
+                        neighbor = getOrAddNode(neighborCoord.x, neighborCoord.y, neighborCoord.z);
+                    } else if (closed[neighbor] || tentativeG >= gScore[neighbor]) {
+                        //We already have a path to the neighbor that is at least as good
+                        continue;
+                    }
+                    parents[neighbor] = currentNode;
+                    gScore[neighbor] = tentativeG;
+                    openSet.add(neighbor);
+                }
+            }
+        }
+
+        /**
+         * Same check as {@link TransporterStack#canInsertToTransporter(ILogisticalTransporter, Direction, TileEntity)}, as the tree is shared by all stacks of our color.
+         */
+        private boolean canPassThrough(ILogisticalTransporter transporter, Direction direction, TileEntity from) {
+            return (transporter.getColor() == null || transporter.getColor() == color) && transporter.canConnectMutual(direction.getOpposite(), from);
+        }
+
+        private long distanceSq(int x, int y, int z) {
+            long subX = x - start.x;
+            long subY = y - start.y;
+            long subZ = z - start.z;
+            return subX * subX + subY * subY + subZ * subZ;
+        }
+
+        public long getLastUsed() {
+            return lastUsed;
+        }
+
+        public void setLastUsed(long lastUsed) {
+            this.lastUsed = lastUsed;
+        }
+
+        private int getOrAddNode(int x, int y, int z) {
+            long key = mutablePos.setPos(x, y, z).toLong();
+            int node = nodeIndices.get(key);
+            if (node == -1) {
+                node = nodeCount++;
+                if (node == nodeX.length) {
+                    int newLength = node * 2;
+                    nodeX = Arrays.copyOf(nodeX, newLength);
+                    nodeY = Arrays.copyOf(nodeY, newLength);
+                    nodeZ = Arrays.copyOf(nodeZ, newLength);
+                    parents = Arrays.copyOf(parents, newLength);
+                    gScore = Arrays.copyOf(gScore, newLength);
+                    closed = Arrays.copyOf(closed, newLength);
+                    deferred = Arrays.copyOf(deferred, newLength);
+                }
+                nodeX[node] = x;
+                nodeY[node] = y;
+                nodeZ[node] = z;
+                parents[node] = -1;
+                nodeIndices.put(key, node);
+            }
+            return node;
+        }
+
+        /**
+         * @return The node of the transporter at the given position, or -1 if the search has not found the cheapest path to it.
+         */
+        public int getNode(Coord4D coord) {
+            int node = nodeIndices.get(mutablePos.setPos(coord.x, coord.y, coord.z).toLong());
+            return node != -1 && closed[node] ? node : -1;
+        }
+
+        public double getScore(int node) {
+            return gScore[node];
+        }
+
+        /**
+         * Gets the path to the destination, in the same order as {@link Pathfinder#getPath()}, going through the given node right before reaching the destination.
+         */
+        public List<Coord4D> getPath(Coord4D dest, int node) {
+            List<Coord4D> path = new ArrayList<>();
+            path.add(dest);
+            //Walk back along the nodes we came from until we reach the start
+            for (; node != -1; node = parents[node]) {
+                path.add(new Coord4D(nodeX[node], nodeY[node], nodeZ[node], start.dimension));
+            }
+            return path;
+        }
+    }
+
+    /**
+     * Binary min heap of node indices ordered by their score. It keeps track of where each node is in the heap so that a node can be moved when its score improves.
+     */
+    private static class NodeHeap {
+
+        private final Int2IntMap heapIndices = new Int2IntOpenHashMap();
+        private final IntToDoubleFunction scores;
+        private int[] heap = new int[16];
+        private int size;
+
+        private NodeHeap(IntToDoubleFunction scores) {
+            this.scores = scores;
+            heapIndices.defaultReturnValue(-1);
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+
+        private boolean contains(int node) {
+            return heapIndices.containsKey(node);
+        }
+
+        /**
+         * Adds the node to the heap, or if it is already in the heap moves it up to match its decreased score.
+         */
+        private void add(int node) {
+            int index = heapIndices.get(node);
+            if (index == -1) {
+                if (size == heap.length) {
+                    heap = Arrays.copyOf(heap, size * 2);
+                }
+                index = size++;
+            }
+            siftUp(index, node);
+        }
+
+        private int poll() {
+            int first = heap[0];
+            heapIndices.remove(first);
+            size--;
+            if (size > 0) {
+                siftDown(0, heap[size]);
+            }
+            return first;
+        }
+
+        private void siftUp(int index, int node) {
+            double score = scores.applyAsDouble(node);
+            while (index > 0) {
+                int parentIndex = (index - 1) >>> 1;
+                int parent = heap[parentIndex];
+                if (score >= scores.applyAsDouble(parent)) {
+                    break;
+                }
+                set(index, parent);
+                index = parentIndex;
+            }
+            set(index, node);
+        }
+
+        private void siftDown(int index, int node) {
+            double score = scores.applyAsDouble(node);
+            int half = size >>> 1;
+            while (index < half) {
+                int childIndex = 2 * index + 1;
+                int child = heap[childIndex];
+                int rightIndex = childIndex + 1;
+                if (rightIndex < size && scores.applyAsDouble(heap[rightIndex]) < scores.applyAsDouble(child)) {
+                    childIndex = rightIndex;
+                    child = heap[childIndex];
+                }
+                if (score <= scores.applyAsDouble(child)) {
+                    break;
+                }
+                set(index, child);
+                index = childIndex;
+            }
+            set(index, node);
+        }
+
+        private void set(int index, int node) {
+            heap[index] = node;
+            heapIndices.put(node, index);
+        }
     }
-}
\ No newline at end of file
+}
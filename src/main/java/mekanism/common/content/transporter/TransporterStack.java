@@ -21,6 +21,7 @@ import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
 import org.apache.commons.lang3.tuple.Pair;
 
 public class TransporterStack {
@@ -36,10 +37,23 @@ public class TransporterStack {
     public Direction idleDir = null;
     public Coord4D originalLocation;
     public Coord4D homeLocation;
-    private Coord4D clientNext;
+    /**
+     * The rest of the path the server sent us, in the same order as {@link #pathToTarget}, so that the client can move the stack between transporters itself.
+     */
+    private List<Coord4D> clientPath = new ArrayList<>();
     private Coord4D clientPrev;
+    /**
+     * Number of ticks the stack has been waiting at the end of its path on the client for the server to tell us where it went.
+     */
+    public int clientStalledTicks;
     private Path pathType;
     private List<Coord4D> pathToTarget = new ArrayList<>();
+    /**
+     * Cursor into {@link #pathToTarget} of the transporter the stack was last looked up at, so that we don't have to search the path each time.
+     */
+    @Nullable
+    private Coord4D cursorCoord;
+    private int cursor = -1;
 
     public static TransporterStack readFromNBT(CompoundNBT nbtTags) {
         TransporterStack stack = new TransporterStack();
@@ -64,11 +78,11 @@ public class TransporterStack {
         originalLocation.write(data);
         data.add(pathType);
 
-        if (pathToTarget.indexOf(transporter.coord()) > 0) {
-            data.add(true);
-            getNext(transporter).write(data);
-        } else {
-            data.add(false);
+        //Send the rest of the path once, so that the stack does not need to be synced each time it enters another transporter
+        int index = Math.max(0, getPathIndex(transporter));
+        data.add(index);
+        for (int i = 0; i < index; i++) {
+            data.add(pathToTarget.get(i).getPos().toLong());
         }
 
         getPrev(transporter).write(data);
@@ -87,8 +101,11 @@ public class TransporterStack {
         originalLocation = Coord4D.read(dataStream);
         pathType = dataStream.readEnumValue(Path.class);
 
-        if (dataStream.readBoolean()) {
-            clientNext = Coord4D.read(dataStream);
+        int pathSize = dataStream.readInt();
+        clientPath = new ArrayList<>(pathSize);
+        for (int i = 0; i < pathSize; i++) {
+            long pos = dataStream.readLong();
+            clientPath.add(new Coord4D(BlockPos.unpackX(pos), BlockPos.unpackY(pos), BlockPos.unpackZ(pos), originalLocation.dimension));
         }
         clientPrev = Coord4D.read(dataStream);
         itemStack = dataStream.readItemStack();
@@ -137,6 +154,7 @@ public class TransporterStack {
         }
         pathToTarget = path;
         pathType = type;
+        cursorCoord = null;
         if (pathType != Path.NONE) {
             TransporterManager.add(this);
         }
@@ -190,24 +208,54 @@ public class TransporterStack {
         return true;
     }
 
+    /**
+     * Gets the index in the path of the given transporter.
+     *
+     * @return The index, or -1 if the transporter is not part of the path.
+     */
+    public int getPathIndex(ILogisticalTransporter transporter) {
+        Coord4D coord = transporter.coord();
+        if (!coord.equals(cursorCoord)) {
+            //Stacks move one step along their path at a time, so check the next position before searching the entire path
+            int next = cursor - 1;
+            if (next >= 0 && next < pathToTarget.size() && pathToTarget.get(next).equals(coord)) {
+                cursor = next;
+            } else {
+                cursor = pathToTarget.indexOf(coord);
+            }
+            cursorCoord = coord;
+        }
+        return cursor;
+    }
+
     public boolean isFinal(ILogisticalTransporter transporter) {
-        return pathToTarget.indexOf(transporter.coord()) == (pathType == Path.NONE ? 0 : 1);
+        int index = transporter.world().isRemote ? clientPath.size() : getPathIndex(transporter);
+        return index == (pathType == Path.NONE ? 0 : 1);
+    }
+
+    /**
+     * Moves the stack on the client from the given transporter into the next transporter on its path.
+     */
+    public void moveToNextClient(ILogisticalTransporter from) {
+        clientPrev = from.coord();
+        clientPath.remove(clientPath.size() - 1);
+        clientStalledTicks = 0;
     }
 
     public Coord4D getNext(ILogisticalTransporter transporter) {
         if (!transporter.world().isRemote) {
-            int index = pathToTarget.indexOf(transporter.coord()) - 1;
+            int index = getPathIndex(transporter) - 1;
             if (index < 0) {
                 return null;
             }
             return pathToTarget.get(index);
         }
-        return clientNext;
+        return clientPath.isEmpty() ? null : clientPath.get(clientPath.size() - 1);
     }
 
     public Coord4D getPrev(ILogisticalTransporter transporter) {
         if (!transporter.world().isRemote) {
-            int index = pathToTarget.indexOf(transporter.coord()) + 1;
+            int index = getPathIndex(transporter) + 1;
             if (index < pathToTarget.size()) {
                 return pathToTarget.get(index);
             }
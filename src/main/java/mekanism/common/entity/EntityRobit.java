@@ -124,7 +124,7 @@ public class EntityRobit extends CreatureEntity implements IMekanismInventory, I
             }
         }
         inventorySlots.add(energySlot = EnergyInventorySlot.discharge(this, 153, 17));
-        inventorySlots.add(smeltingInputSlot = InputInventorySlot.at(item -> containsRecipe(recipe -> recipe.getInput().testType(item)), this, 56, 17));
+        inventorySlots.add(smeltingInputSlot = InputInventorySlot.at(item -> containsRecipe(item, recipe -> recipe.getInput().testType(item)), this, 56, 17));
         //TODO: Figure this out, do we want it using the fuel or not?
         inventorySlots.add(fuelSlot = FuelInventorySlot.forFuel(ForgeHooks::getBurnTime, this, 56, 53));
         //TODO: Previously used FurnaceResultSlot, check if we need to replicate any special logic it had (like if it had xp logic or something)
@@ -591,6 +591,15 @@ public class EntityRobit extends CreatureEntity implements IMekanismInventory, I
         return getRecipeType().findFirst(getEntityWorld(), matchCriteria);
     }
 
+    public boolean containsRecipe(@Nonnull ItemStack key, @Nonnull Predicate<ItemStackToItemStackRecipe> matchCriteria) {
+        return getRecipeType().contains(getEntityWorld(), key, matchCriteria);
+    }
+
+    @Nullable
+    public ItemStackToItemStackRecipe findFirstRecipe(@Nonnull ItemStack key, @Nonnull Predicate<ItemStackToItemStackRecipe> matchCriteria) {
+        return getRecipeType().findFirst(getEntityWorld(), key, matchCriteria);
+    }
+
     @Nullable
     @Override
     public CachedRecipe<ItemStackToItemStackRecipe> getCachedRecipe(int cacheIndex) {
@@ -601,7 +610,7 @@ public class EntityRobit extends CreatureEntity implements IMekanismInventory, I
     @Override
     public ItemStackToItemStackRecipe getRecipe(int cacheIndex) {
         ItemStack stack = inputHandler.getInput();
-        return stack.isEmpty() ? null : findFirstRecipe(recipe -> recipe.test(stack));
+        return stack.isEmpty() ? null : findFirstRecipe(stack, recipe -> recipe.test(stack));
     }
 
     @Nullable
@@ -1,10 +1,14 @@
 package mekanism.common.frequency;
 
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.lang.reflect.Constructor;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import javax.annotation.Nonnull;
@@ -19,6 +23,7 @@ import net.minecraft.network.PacketBuffer;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.AbstractChunkProvider;
+import net.minecraft.world.dimension.DimensionType;
 import net.minecraft.world.server.ServerChunkProvider;
 import net.minecraft.world.storage.DimensionSavedDataManager;
 import net.minecraft.world.storage.WorldSavedData;
@@ -33,7 +38,16 @@ public class FrequencyManager {
 
     private static Set<FrequencyManager> managers = new ObjectOpenHashSet<>();
 
-    private Set<Frequency> frequencies = new ObjectOpenHashSet<>();
+    /**
+     * Frequencies mapped to themselves so that the stored instance can be looked up from any equal frequency.
+     */
+    private final Map<Frequency, Frequency> frequencies = new Object2ObjectOpenHashMap<>();
+    private final Map<String, Set<Frequency>> frequenciesByName = new Object2ObjectOpenHashMap<>();
+    private final Map<UUID, Map<String, Frequency>> frequenciesByOwner = new Object2ObjectOpenHashMap<>();
+    /**
+     * The frequency each active coordinate is currently using, so that deactivating a coordinate does not have to check every frequency.
+     */
+    private final Map<Coord4D, Frequency> activeFrequencies = new Object2ObjectOpenHashMap<>();
 
     //Note: This can be null on the client side
     @Nullable
@@ -75,76 +89,79 @@ public class FrequencyManager {
     public static void reset() {
         for (FrequencyManager manager : managers) {
             manager.frequencies.clear();
+            manager.frequenciesByName.clear();
+            manager.frequenciesByOwner.clear();
+            manager.activeFrequencies.clear();
             manager.dataHandler = null;
         }
         loaded = false;
     }
 
     public Frequency update(Coord4D coord, Frequency freq) {
-        for (Frequency iterFreq : frequencies) {
-            if (freq.equals(iterFreq)) {
-                iterFreq.activeCoords.add(coord);
-                if (dataHandler != null) {
-                    dataHandler.markDirty();
-                }
-                return iterFreq;
-            }
+        Frequency storedFreq = frequencies.get(freq);
+        if (storedFreq != null) {
+            activate(coord, storedFreq);
+            return storedFreq;
         }
         deactivate(coord);
         return null;
     }
 
     public void remove(String name, UUID owner) {
-        for (Iterator<Frequency> iter = getFrequencies().iterator(); iter.hasNext(); ) {
-            Frequency iterFreq = iter.next();
-            if (iterFreq.name.equals(name) && iterFreq.ownerUUID.equals(owner)) {
-                iter.remove();
-                if (dataHandler != null) {
-                    dataHandler.markDirty();
-                }
+        Map<String, Frequency> ownerFrequencies = frequenciesByOwner.get(owner);
+        if (ownerFrequencies != null) {
+            Frequency freq = ownerFrequencies.get(name);
+            if (freq != null) {
+                removeFrequency(freq);
             }
         }
     }
 
     public void remove(String name) {
-        for (Iterator<Frequency> iter = getFrequencies().iterator(); iter.hasNext(); ) {
-            Frequency iterFreq = iter.next();
-            if (iterFreq.name.equals(name)) {
-                iter.remove();
-                if (dataHandler != null) {
-                    dataHandler.markDirty();
-                }
+        Set<Frequency> namedFrequencies = frequenciesByName.get(name);
+        if (namedFrequencies != null) {
+            for (Frequency freq : new ArrayList<>(namedFrequencies)) {
+                removeFrequency(freq);
+            }
+        }
+    }
+
+    /**
+     * Marks the given coordinate as an active user of the given frequency, removing it from whatever frequency it was previously active on.
+     *
+     * @param coord Coordinate of the frequency handler
+     * @param freq  Frequency stored in this manager
+     */
+    public void activate(Coord4D coord, Frequency freq) {
+        Frequency previous = activeFrequencies.put(coord, freq);
+        if (previous != freq) {
+            if (previous != null) {
+                previous.activeCoords.remove(coord);
             }
+            freq.activeCoords.add(coord);
+            markDirty();
         }
     }
 
     public void deactivate(Coord4D coord) {
-        for (Frequency freq : frequencies) {
+        Frequency freq = activeFrequencies.remove(coord);
+        if (freq != null) {
             freq.activeCoords.remove(coord);
-            if (dataHandler != null) {
-                dataHandler.markDirty();
-            }
+            markDirty();
         }
     }
 
     public Frequency validateFrequency(UUID uuid, Coord4D coord, Frequency freq) {
-        for (Frequency iterFreq : frequencies) {
-            if (freq.equals(iterFreq)) {
-                iterFreq.activeCoords.add(coord);
-                if (dataHandler != null) {
-                    dataHandler.markDirty();
-                }
-                return iterFreq;
-            }
+        Frequency storedFreq = frequencies.get(freq);
+        if (storedFreq != null) {
+            activate(coord, storedFreq);
+            return storedFreq;
         }
 
         if (uuid.equals(freq.ownerUUID)) {
-            freq.activeCoords.add(coord);
             freq.valid = true;
-            frequencies.add(freq);
-            if (dataHandler != null) {
-                dataHandler.markDirty();
-            }
+            addFrequency(freq);
+            activate(coord, freq);
             return freq;
         }
         return null;
@@ -170,41 +187,105 @@ public class FrequencyManager {
     }
 
     public Set<Frequency> getFrequencies() {
-        return frequencies;
+        return Collections.unmodifiableSet(frequencies.keySet());
+    }
+
+    /**
+     * Gets a frequency with the given name, or null if this manager does not have one. If multiple owners have a frequency by this name, any one of them
+     * may be returned.
+     */
+    @Nullable
+    public Frequency getFrequency(String name) {
+        Set<Frequency> namedFrequencies = frequenciesByName.get(name);
+        return namedFrequencies == null || namedFrequencies.isEmpty() ? null : namedFrequencies.iterator().next();
+    }
+
+    /**
+     * Gets the instance of the given frequency that is stored in this manager, or null if it is not stored in this manager.
+     */
+    @Nullable
+    public Frequency getStoredFrequency(Frequency freq) {
+        return frequencies.get(freq);
+    }
+
+    @Nullable
+    public Frequency getFrequency(String name, UUID owner) {
+        Map<String, Frequency> ownerFrequencies = frequenciesByOwner.get(owner);
+        return ownerFrequencies == null ? null : ownerFrequencies.get(name);
     }
 
     public void addFrequency(Frequency freq) {
-        frequencies.add(freq);
-        if (dataHandler != null) {
-            dataHandler.markDirty();
+        if (frequencies.putIfAbsent(freq, freq) == null) {
+            indexFrequency(freq);
+            markDirty();
         }
     }
 
     public boolean containsFrequency(String name) {
-        for (Frequency freq : frequencies) {
-            if (freq.name.equals(name)) {
-                return true;
+        return frequenciesByName.containsKey(name);
+    }
+
+    private void setFrequencies(Set<Frequency> loadedFrequencies) {
+        frequencies.clear();
+        frequenciesByName.clear();
+        frequenciesByOwner.clear();
+        activeFrequencies.clear();
+        for (Frequency freq : loadedFrequencies) {
+            if (frequencies.putIfAbsent(freq, freq) == null) {
+                indexFrequency(freq);
+            }
+            for (Coord4D coord : freq.activeCoords) {
+                activeFrequencies.put(coord, freq);
             }
         }
-        return false;
+    }
+
+    private void indexFrequency(Frequency freq) {
+        frequenciesByName.computeIfAbsent(freq.name, name -> new ObjectOpenHashSet<>()).add(freq);
+        frequenciesByOwner.computeIfAbsent(freq.ownerUUID, owner -> new Object2ObjectOpenHashMap<>()).putIfAbsent(freq.name, freq);
+    }
+
+    private void removeFrequency(Frequency freq) {
+        frequencies.remove(freq);
+        Set<Frequency> namedFrequencies = frequenciesByName.get(freq.name);
+        if (namedFrequencies != null && namedFrequencies.remove(freq) && namedFrequencies.isEmpty()) {
+            frequenciesByName.remove(freq.name);
+        }
+        Map<String, Frequency> ownerFrequencies = frequenciesByOwner.get(freq.ownerUUID);
+        if (ownerFrequencies != null && ownerFrequencies.remove(freq.name, freq) && ownerFrequencies.isEmpty()) {
+            frequenciesByOwner.remove(freq.ownerUUID);
+        }
+        for (Coord4D coord : freq.activeCoords) {
+            activeFrequencies.remove(coord, freq);
+        }
+        markDirty();
+    }
+
+    private void markDirty() {
+        if (dataHandler != null) {
+            dataHandler.markDirty();
+        }
     }
 
     public void tickSelf(World world) {
-        for (Frequency iterFreq : frequencies) {
-            for (Iterator<Coord4D> iter = iterFreq.activeCoords.iterator(); iter.hasNext(); ) {
-                Coord4D coord = iter.next();
-                if (coord.dimension.equals(world.getDimension().getType())) {
-                    //Note: We will check if the block is loaded while getting the tile so we don't need to
-                    // specifically have that case as all it did was also remove iter
-                    TileEntity tile = MekanismUtils.getTileEntity(world, coord.getPos());
-                    if (tile instanceof IFrequencyHandler) {
-                        Frequency freq = ((IFrequencyHandler) tile).getFrequency(this);
-                        if (freq == null || !freq.equals(iterFreq)) {
-                            iter.remove();
-                        }
-                    } else {
+        DimensionType dimension = world.getDimension().getType();
+        for (Iterator<Map.Entry<Coord4D, Frequency>> iter = activeFrequencies.entrySet().iterator(); iter.hasNext(); ) {
+            Map.Entry<Coord4D, Frequency> entry = iter.next();
+            Coord4D coord = entry.getKey();
+            if (coord.dimension.equals(dimension)) {
+                Frequency iterFreq = entry.getValue();
+                //Note: We will check if the block is loaded while getting the tile so we don't need to
+                // specifically have that case as all it did was also remove iter
+                TileEntity tile = MekanismUtils.getTileEntity(world, coord.getPos());
+                if (tile instanceof IFrequencyHandler) {
+                    Frequency freq = ((IFrequencyHandler) tile).getFrequency(this);
+                    if (freq == null || !freq.equals(iterFreq)) {
+                        iterFreq.activeCoords.remove(coord);
                         iter.remove();
                     }
+                } else {
+                    iterFreq.activeCoords.remove(coord);
+                    iter.remove();
                 }
             }
         }
@@ -212,7 +293,7 @@ public class FrequencyManager {
 
     public void writeFrequencies(TileNetworkList data) {
         data.add(frequencies.size());
-        for (Frequency freq : frequencies) {
+        for (Frequency freq : frequencies.keySet()) {
             freq.write(data);
         }
     }
@@ -253,7 +334,7 @@ public class FrequencyManager {
 
         public void syncManager() {
             if (loadedFrequencies != null) {
-                manager.frequencies = loadedFrequencies;
+                manager.setFrequencies(loadedFrequencies);
                 manager.ownerUUID = loadedOwner;
             }
         }
@@ -34,7 +34,7 @@ public class GasInventorySlot extends BasicInventorySlot {
      * Gets the GasStack from ItemStack conversion, ignoring the size of the item stack.
      */
     private static GasStack getPotentialConversion(@Nullable World world, ItemStack itemStack) {
-        ItemStackToGasRecipe foundRecipe = MekanismRecipeType.GAS_CONVERSION.findFirst(world, recipe -> recipe.getInput().testType(itemStack));
+        ItemStackToGasRecipe foundRecipe = MekanismRecipeType.GAS_CONVERSION.findFirst(world, itemStack, recipe -> recipe.getInput().testType(itemStack));
         return foundRecipe == null ? GasStack.EMPTY : foundRecipe.getOutput(itemStack);
     }
 
@@ -233,7 +233,7 @@ public class GasInventorySlot extends BasicInventorySlot {
             //Fill the tank from the item
             if (!fillTankFromItem()) {
                 //If filling from item failed, try doing it by conversion
-                ItemStackToGasRecipe foundRecipe = MekanismRecipeType.GAS_CONVERSION.findFirst(worldSupplier.get(), recipe -> recipe.getInput().test(current));
+                ItemStackToGasRecipe foundRecipe = MekanismRecipeType.GAS_CONVERSION.findFirst(worldSupplier.get(), current, recipe -> recipe.getInput().test(current));
                 if (foundRecipe != null) {
                     ItemStack itemInput = foundRecipe.getInput().getMatchingInstance(current);
                     if (!itemInput.isEmpty()) {
@@ -4,6 +4,7 @@ import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.ActionResultType;
 import net.minecraft.util.Hand;
+import net.minecraft.util.math.BlockPos;
 
 public interface IMultiblock<T extends SynchronizedData<T>> {
 
@@ -12,4 +13,11 @@ public interface IMultiblock<T extends SynchronizedData<T>> {
     ActionResultType onActivate(PlayerEntity player, Hand hand, ItemStack stack);
 
     void doUpdate();
+
+    /**
+     * Called when the block at the given position changed, by default this runs a full update.
+     */
+    default void doUpdate(BlockPos changedPos) {
+        doUpdate();
+    }
 }
\ No newline at end of file
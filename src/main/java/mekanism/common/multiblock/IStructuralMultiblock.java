@@ -6,6 +6,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.ActionResultType;
 import net.minecraft.util.Hand;
+import net.minecraft.util.math.BlockPos;
 
 public interface IStructuralMultiblock {
 
@@ -16,4 +17,11 @@ public interface IStructuralMultiblock {
     void setController(Coord4D coord);
 
     void doUpdate();
+
+    /**
+     * Called when the block at the given position changed, by default this runs a full update.
+     */
+    default void doUpdate(BlockPos changedPos) {
+        doUpdate();
+    }
 }
\ No newline at end of file
@@ -2,10 +2,10 @@ package mekanism.common.multiblock;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import mekanism.api.Coord4D;
@@ -13,6 +13,7 @@ import mekanism.common.tile.TileEntityMultiblock;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.world.World;
+import net.minecraft.world.dimension.DimensionType;
 
 public class MultiblockManager<T extends SynchronizedData<T>> {
 
@@ -25,6 +26,11 @@ public class MultiblockManager<T extends SynchronizedData<T>> {
      */
     public Map<String, MultiblockCache<T>> inventories = new Object2ObjectOpenHashMap<>();
 
+    /**
+     * Locations of segments that were removed or moved to a different cache, and may have to be removed from the cache they are stored in.
+     */
+    private final Set<Coord4D> dirtyLocations = new ObjectOpenHashSet<>();
+
     public MultiblockManager(String s) {
         name = s;
         managers.add(this);
@@ -50,6 +56,7 @@ public class MultiblockManager<T extends SynchronizedData<T>> {
     public static void reset() {
         for (MultiblockManager<?> manager : managers) {
             manager.inventories.clear();
+            manager.dirtyLocations.clear();
         }
     }
 
@@ -83,35 +90,44 @@ public class MultiblockManager<T extends SynchronizedData<T>> {
         return UUID.randomUUID().toString();
     }
 
+    /**
+     * Marks that the segment at the given location may no longer belong to the cache it is stored in, so that it gets checked at the end of the tick.
+     */
+    public void markDirty(Coord4D location) {
+        dirtyLocations.add(location);
+    }
+
     public void tickSelf(World world) {
-        ArrayList<String> idsToKill = new ArrayList<>();
-        Map<String, Set<Coord4D>> tilesToKill = new Object2ObjectOpenHashMap<>();
-        for (Entry<String, MultiblockCache<T>> entry : inventories.entrySet()) {
-            String inventoryID = entry.getKey();
-            for (Coord4D obj : entry.getValue().locations) {
-                if (obj.dimension.equals(world.getDimension().getType()) && world.isBlockLoaded(obj.getPos())) {
-                    TileEntity tile = MekanismUtils.getTileEntity(world, obj.getPos());
-                    if (!(tile instanceof TileEntityMultiblock) || ((TileEntityMultiblock<?>) tile).getManager() != this ||
-                        (getStructureId(((TileEntityMultiblock<?>) tile)) != null && !Objects.equals(getStructureId(((TileEntityMultiblock<?>) tile)), inventoryID))) {
-                        if (!tilesToKill.containsKey(inventoryID)) {
-                            tilesToKill.put(inventoryID, new ObjectOpenHashSet<>());
-                        }
-                        tilesToKill.get(inventoryID).add(obj);
-                    }
-                }
+        if (dirtyLocations.isEmpty()) {
+            return;
+        }
+        DimensionType dimension = world.getDimension().getType();
+        Iterator<Coord4D> dirtyIterator = dirtyLocations.iterator();
+        while (dirtyIterator.hasNext()) {
+            Coord4D obj = dirtyIterator.next();
+            if (!obj.dimension.equals(dimension)) {
+                continue;
             }
-            if (entry.getValue().locations.isEmpty()) {
-                idsToKill.add(inventoryID);
+            dirtyIterator.remove();
+            if (!world.isBlockLoaded(obj.getPos())) {
+                //Segments in unloaded chunks keep their place in the cache, they add themselves back when they get loaded
+                continue;
             }
-        }
-        for (Entry<String, Set<Coord4D>> entry : tilesToKill.entrySet()) {
-            for (Coord4D obj : entry.getValue()) {
-                inventories.get(entry.getKey()).locations.remove(obj);
+            TileEntity tile = MekanismUtils.getTileEntity(world, obj.getPos());
+            boolean isSegment = tile instanceof TileEntityMultiblock && ((TileEntityMultiblock<?>) tile).getManager() == this;
+            String structureId = isSegment ? getStructureId((TileEntityMultiblock<?>) tile) : null;
+            Iterator<Entry<String, MultiblockCache<T>>> cacheIterator = inventories.entrySet().iterator();
+            while (cacheIterator.hasNext()) {
+                Entry<String, MultiblockCache<T>> entry = cacheIterator.next();
+                Set<Coord4D> locations = entry.getValue().locations;
+                if (locations.contains(obj) && (!isSegment || (structureId != null && !structureId.equals(entry.getKey())))) {
+                    locations.remove(obj);
+                    if (locations.isEmpty()) {
+                        cacheIterator.remove();
+                    }
+                }
             }
         }
-        for (String inventoryID : idsToKill) {
-            inventories.remove(inventoryID);
-        }
     }
 
     public void updateCache(TileEntityMultiblock<T> tile) {
@@ -122,4 +138,16 @@ public class MultiblockManager<T extends SynchronizedData<T>> {
             inventories.get(tile.cachedID).locations.add(Coord4D.get(tile));
         }
     }
+
+    /**
+     * Makes the cache of the tile the one stored for its ID and adds all the given locations to it at once, for when a whole structure starts using the cache. Any
+     * cache a segment stored for the ID before the structure formed gets replaced, but the locations it had are kept.
+     */
+    public void updateCache(TileEntityMultiblock<T> tile, Collection<Coord4D> locations) {
+        MultiblockCache<T> previous = inventories.put(tile.cachedID, tile.cachedData);
+        if (previous != null && previous != tile.cachedData) {
+            tile.cachedData.locations.addAll(previous.locations);
+        }
+        tile.cachedData.locations.addAll(locations);
+    }
 }
\ No newline at end of file
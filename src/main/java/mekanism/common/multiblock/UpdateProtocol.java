@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Set;
 import mekanism.api.Coord4D;
 import mekanism.common.tile.TileEntityMultiblock;
+import mekanism.common.tile.TileEntityStructuralGlass;
 import mekanism.common.util.EnumUtils;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.item.ItemStack;
@@ -150,6 +151,43 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
         }
     }
 
+    /**
+     * Checks if a change to the block at the given position leaves the structure of the pointer the way it was when it was last validated. This only looks at the
+     * changed block, so that a change next to or in the shell of a large structure does not have to validate the whole structure again.
+     *
+     * @param changedPos - position of the block that changed
+     *
+     * @return True if the structure is unaffected by the change, false if it has to be validated again.
+     */
+    public boolean isUnaffected(BlockPos changedPos) {
+        T structure = pointer.structure;
+        if (structure == null || structure.destroyed || structure.minLocation == null || structure.maxLocation == null) {
+            return false;
+        }
+        Coord4D min = structure.minLocation;
+        Coord4D max = structure.maxLocation;
+        int x = changedPos.getX();
+        int y = changedPos.getY();
+        int z = changedPos.getZ();
+        if (x < min.x || x > max.x || y < min.y || y > max.y || z < min.z || z > max.z) {
+            //Outside of the structure, only a viable node can change the shape of the structure by extending it
+            return !isViableNode(x, y, z);
+        }
+        if (x > min.x && x < max.x && y > min.y && y < max.y && z > min.z && z < max.z) {
+            //What is inside the structure can change what it is made of, so it has to be validated again
+            return false;
+        }
+        //Part of the shell, it is unaffected if the block is still the same one that is part of the structure
+        TileEntity tile = MekanismUtils.getTileEntity(pointer.getWorld(), changedPos);
+        if (tile instanceof TileEntityMultiblock) {
+            return ((TileEntityMultiblock<?>) tile).structure == structure;
+        } else if (tile instanceof TileEntityStructuralGlass) {
+            Coord4D master = ((TileEntityStructuralGlass) tile).master;
+            return master != null && structure.locations.contains(master);
+        }
+        return false;
+    }
+
     protected boolean canForm(T structure) {
         return true;
     }
@@ -88,13 +88,7 @@ public class PacketPortableTeleporter {
                         break;
                     case SET_FREQ:
                         FrequencyManager manager1 = getManager(message.frequency.isPublic() ? null : player.getUniqueID(), world);
-                        Frequency toUse = null;
-                        for (Frequency freq : manager1.getFrequencies()) {
-                            if (freq.name.equals(message.frequency.name)) {
-                                toUse = freq;
-                                break;
-                            }
-                        }
+                        Frequency toUse = manager1.getFrequency(message.frequency.name);
                         if (toUse == null) {
                             toUse = new Frequency(message.frequency.name, player.getUniqueID()).setPublic(message.frequency.isPublic());
                             manager1.addFrequency(toUse);
@@ -109,13 +103,7 @@ public class PacketPortableTeleporter {
                         break;
                     case TELEPORT:
                         FrequencyManager manager2 = getManager(message.frequency.isPublic() ? null : player.getUniqueID(), world);
-                        Frequency found = null;
-                        for (Frequency freq : manager2.getFrequencies()) {
-                            if (message.frequency.name.equals(freq.name)) {
-                                found = freq;
-                                break;
-                            }
-                        }
+                        Frequency found = manager2.getFrequency(message.frequency.name);
                         if (found == null) {
                             break;
                         }
@@ -222,17 +210,7 @@ public class PacketPortableTeleporter {
         byte status = 3;
         if (given != null) {
             FrequencyManager manager = given.isPublic() ? getManager(null, world) : getManager(player.getUniqueID(), world);
-            boolean found = false;
-            for (Frequency iterFreq : manager.getFrequencies()) {
-                if (given.equals(iterFreq)) {
-                    given = iterFreq;
-                    found = true;
-                    break;
-                }
-            }
-            if (!found) {
-                given = null;
-            }
+            given = manager.getStoredFrequency(given);
         }
 
         if (given != null) {
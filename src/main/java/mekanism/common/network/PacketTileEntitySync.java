@@ -0,0 +1,169 @@
+package mekanism.common.network;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.Arrays;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+import mekanism.api.Coord4D;
+import mekanism.common.Mekanism;
+import mekanism.common.PacketHandler;
+import mekanism.common.tile.base.TileEntityMekanism;
+import mekanism.common.util.MekanismUtils;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraftforge.fml.network.NetworkEvent.Context;
+
+/**
+ * Sends the networked data of a tile to the players that have its GUI open. Rather than the full data, only the bytes that changed since the last sync get sent, along
+ * with where they go. The client keeps the data it built up from the previous syncs to apply the changes to.
+ */
+public class PacketTileEntitySync {
+
+    /**
+     * If there are fewer than this many unchanged bytes between two changed runs, we send them as one run as the unchanged bytes cost less than the extra run header.
+     */
+    private static final int MAX_RUN_GAP = 3;
+
+    private Coord4D coord4D;
+    private boolean reset;
+    private int length;
+    //Server side, the data we are sending the runs from
+    private byte[] data;
+    private IntList runStarts;
+    private IntList runLengths;
+    //Client side, the changed runs we received
+    private byte[][] runs;
+
+    private PacketTileEntitySync(Coord4D coord, boolean reset, int length) {
+        coord4D = coord;
+        this.reset = reset;
+        this.length = length;
+    }
+
+    /**
+     * Creates a sync that replaces whatever data the client has with the given data.
+     */
+    public static PacketTileEntitySync full(Coord4D coord, byte[] data) {
+        PacketTileEntitySync sync = new PacketTileEntitySync(coord, true, data.length);
+        sync.data = data;
+        sync.runStarts = new IntArrayList();
+        sync.runLengths = new IntArrayList();
+        if (data.length > 0) {
+            sync.runStarts.add(0);
+            sync.runLengths.add(data.length);
+        }
+        return sync;
+    }
+
+    /**
+     * Creates a sync that changes the previous data into the given data.
+     *
+     * @return The sync, or null if the data did not change.
+     */
+    @Nullable
+    public static PacketTileEntitySync delta(Coord4D coord, byte[] previous, byte[] data) {
+        PacketTileEntitySync sync = new PacketTileEntitySync(coord, false, data.length);
+        sync.data = data;
+        sync.runStarts = new IntArrayList();
+        sync.runLengths = new IntArrayList();
+        int runStart = -1;
+        int lastChanged = -1;
+        for (int i = 0; i < data.length; i++) {
+            if (i >= previous.length || previous[i] != data[i]) {
+                if (runStart == -1) {
+                    runStart = i;
+                } else if (i - lastChanged > MAX_RUN_GAP + 1) {
+                    //Too many unchanged bytes since the last change, end the current run and start a new one
+                    sync.runStarts.add(runStart);
+                    sync.runLengths.add(lastChanged - runStart + 1);
+                    runStart = i;
+                }
+                lastChanged = i;
+            }
+        }
+        if (runStart != -1) {
+            sync.runStarts.add(runStart);
+            sync.runLengths.add(lastChanged - runStart + 1);
+        } else if (data.length == previous.length) {
+            //Nothing changed
+            return null;
+        }
+        return sync;
+    }
+
+    /**
+     * Applies the changed runs to the previous data.
+     *
+     * @return The new data, or null if the runs are changes to data we do not have.
+     */
+    @Nullable
+    public byte[] apply(@Nullable byte[] previous) {
+        byte[] result;
+        if (reset) {
+            result = new byte[length];
+        } else if (previous == null) {
+            return null;
+        } else {
+            result = Arrays.copyOf(previous, length);
+        }
+        for (int i = 0; i < runs.length; i++) {
+            System.arraycopy(runs[i], 0, result, runStarts.getInt(i), runs[i].length);
+        }
+        return result;
+    }
+
+    public static void handle(PacketTileEntitySync message, Supplier<Context> context) {
+        PlayerEntity player = PacketHandler.getPlayer(context);
+        if (player == null) {
+            return;
+        }
+        context.get().enqueueWork(() -> {
+            TileEntity tile = MekanismUtils.getTileEntity(player.world, message.coord4D.getPos());
+            if (tile instanceof TileEntityMekanism) {
+                try {
+                    ((TileEntityMekanism) tile).receiveSync(message);
+                } catch (Exception e) {
+                    Mekanism.logger.error("FIXME: Packet handling error", e);
+                }
+            }
+        });
+        context.get().setPacketHandled(true);
+    }
+
+    public static void encode(PacketTileEntitySync pkt, PacketBuffer buf) {
+        pkt.coord4D.write(buf);
+        buf.writeBoolean(pkt.reset);
+        buf.writeVarInt(pkt.length);
+        int runCount = pkt.runStarts.size();
+        buf.writeVarInt(runCount);
+        int lastEnd = 0;
+        for (int i = 0; i < runCount; i++) {
+            int start = pkt.runStarts.getInt(i);
+            int runLength = pkt.runLengths.getInt(i);
+            //Write the start relative to the end of the previous run, so that it stays small
+            buf.writeVarInt(start - lastEnd);
+            buf.writeVarInt(runLength);
+            buf.writeBytes(pkt.data, start, runLength);
+            lastEnd = start + runLength;
+        }
+    }
+
+    public static PacketTileEntitySync decode(PacketBuffer buf) {
+        PacketTileEntitySync packet = new PacketTileEntitySync(Coord4D.read(buf), buf.readBoolean(), buf.readVarInt());
+        int runCount = buf.readVarInt();
+        packet.runStarts = new IntArrayList(runCount);
+        packet.runs = new byte[runCount][];
+        int lastEnd = 0;
+        for (int i = 0; i < runCount; i++) {
+            int start = lastEnd + buf.readVarInt();
+            byte[] run = new byte[buf.readVarInt()];
+            buf.readBytes(run);
+            packet.runStarts.add(start);
+            packet.runs[i] = run;
+            lastEnd = start + run.length;
+        }
+        return packet;
+    }
+}
@@ -15,11 +15,28 @@ public class LaserParticleData implements IParticleData {
     public final Direction direction;
     public final double distance;
     public final double energy;
+    /**
+     * Number of consecutive ticks the client should show this beam for, so that stationary beams do not need to be sent every tick.
+     */
+    public final int ticks;
 
     public LaserParticleData(Direction direction, double distance, double energy) {
+        this(direction, distance, energy, 1);
+    }
+
+    public LaserParticleData(Direction direction, double distance, double energy, int ticks) {
         this.direction = direction;
         this.distance = distance;
         this.energy = energy;
+        this.ticks = ticks;
+    }
+
+    /**
+     * Gets the half width a beam carrying the given energy is rendered with.
+     */
+    public static float getScale(double energy) {
+        //TODO: We probably want the 50,000 to scale with the max energy of the laser?
+        return (float) Math.min(energy / 50_000, 0.6);
     }
 
     @Nonnull
@@ -33,13 +50,14 @@ public class LaserParticleData implements IParticleData {
         buffer.writeEnumValue(direction);
         buffer.writeDouble(distance);
         buffer.writeDouble(energy);
+        buffer.writeVarInt(ticks);
     }
 
     @Nonnull
     @Override
     public String getParameters() {
         //TODO: check
-        return String.format(Locale.ROOT, "%s %d %.2f %.2f", getType().getRegistryName(), direction.ordinal(), this.distance, this.energy);
+        return String.format(Locale.ROOT, "%s %d %.2f %.2f %d", getType().getRegistryName(), direction.ordinal(), this.distance, this.energy, this.ticks);
     }
 
     public static final IDeserializer<LaserParticleData> DESERIALIZER = new IDeserializer<LaserParticleData>() {
@@ -52,12 +70,14 @@ public class LaserParticleData implements IParticleData {
             double distance = reader.readDouble();
             reader.expect(' ');
             double energy = reader.readDouble();
-            return new LaserParticleData(direction, distance, energy);
+            reader.expect(' ');
+            int ticks = reader.readInt();
+            return new LaserParticleData(direction, distance, energy, ticks);
         }
 
         @Override
         public LaserParticleData read(@Nonnull ParticleType<LaserParticleData> type, PacketBuffer buf) {
-            return new LaserParticleData(buf.readEnumValue(Direction.class), buf.readDouble(), buf.readDouble());
+            return new LaserParticleData(buf.readEnumValue(Direction.class), buf.readDouble(), buf.readDouble(), buf.readVarInt());
         }
     };
 }
\ No newline at end of file
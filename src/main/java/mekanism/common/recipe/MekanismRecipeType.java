@@ -9,6 +9,7 @@ import java.util.function.Predicate;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import mekanism.api.gas.Gas;
 import mekanism.api.inventory.IgnoredIInventory;
 import mekanism.api.recipes.ChemicalInfuserRecipe;
 import mekanism.api.recipes.CombinerRecipe;
@@ -29,6 +30,7 @@ import mekanism.api.recipes.RotaryRecipe;
 import mekanism.api.recipes.SawmillRecipe;
 import mekanism.api.recipes.inputs.ItemStackIngredient;
 import mekanism.common.Mekanism;
+import mekanism.common.recipe.RecipeInputIndex.InputExtractor;
 import mekanism.common.recipe.impl.SmeltingIRecipe;
 import net.minecraft.inventory.IInventory;
 import net.minecraft.item.ItemStack;
@@ -41,6 +43,7 @@ import net.minecraft.util.NonNullList;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.registry.Registry;
 import net.minecraft.world.World;
+import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.registries.IForgeRegistry;
 
 //TODO: Should this be moved to API package?
@@ -49,45 +52,73 @@ public class MekanismRecipeType<RECIPE_TYPE extends MekanismRecipe> implements I
 
     private static final List<MekanismRecipeType<? extends MekanismRecipe>> types = new ArrayList<>();
 
-    public static final MekanismRecipeType<ItemStackToItemStackRecipe> CRUSHING = create("crushing");
-    public static final MekanismRecipeType<ItemStackToItemStackRecipe> ENRICHING = create("enriching");
-    public static final MekanismRecipeType<ItemStackToItemStackRecipe> SMELTING = create("smelting");
+    public static final MekanismRecipeType<ItemStackToItemStackRecipe> CRUSHING = create("crushing", (recipe, index) -> index.addItemInput(recipe.getInput()));
+    public static final MekanismRecipeType<ItemStackToItemStackRecipe> ENRICHING = create("enriching", (recipe, index) -> index.addItemInput(recipe.getInput()));
+    public static final MekanismRecipeType<ItemStackToItemStackRecipe> SMELTING = create("smelting", (recipe, index) -> index.addItemInput(recipe.getInput()));
 
-    public static final MekanismRecipeType<ChemicalInfuserRecipe> CHEMICAL_INFUSING = create("chemical_infusing");
+    public static final MekanismRecipeType<ChemicalInfuserRecipe> CHEMICAL_INFUSING = create("chemical_infusing", (recipe, index) -> {
+        index.addGasInput(recipe.getLeftInput());
+        index.addGasInput(recipe.getRightInput());
+    });
 
-    public static final MekanismRecipeType<CombinerRecipe> COMBINING = create("combining");
+    public static final MekanismRecipeType<CombinerRecipe> COMBINING = create("combining", (recipe, index) -> {
+        index.addItemInput(recipe.getMainInput());
+        index.addItemInput(recipe.getExtraInput());
+    });
 
-    public static final MekanismRecipeType<ElectrolysisRecipe> SEPARATING = create("separating");
+    public static final MekanismRecipeType<ElectrolysisRecipe> SEPARATING = create("separating", (recipe, index) -> index.addFluidInput(recipe.getInput()));
 
-    public static final MekanismRecipeType<FluidGasToGasRecipe> WASHING = create("washing");
+    public static final MekanismRecipeType<FluidGasToGasRecipe> WASHING = create("washing", (recipe, index) -> {
+        index.addFluidInput(recipe.getFluidInput());
+        index.addGasInput(recipe.getGasInput());
+    });
 
-    public static final MekanismRecipeType<FluidToFluidRecipe> EVAPORATING = create("evaporating");
+    public static final MekanismRecipeType<FluidToFluidRecipe> EVAPORATING = create("evaporating", (recipe, index) -> index.addFluidInput(recipe.getInput()));
 
-    public static final MekanismRecipeType<GasToGasRecipe> ACTIVATING = create("activating");
+    public static final MekanismRecipeType<GasToGasRecipe> ACTIVATING = create("activating", (recipe, index) -> index.addGasInput(recipe.getInput()));
 
-    public static final MekanismRecipeType<GasToItemStackRecipe> CRYSTALLIZING = create("crystallizing");
+    public static final MekanismRecipeType<GasToItemStackRecipe> CRYSTALLIZING = create("crystallizing", (recipe, index) -> index.addGasInput(recipe.getInput()));
 
-    public static final MekanismRecipeType<ItemStackGasToGasRecipe> DISSOLUTION = create("dissolution");
+    public static final MekanismRecipeType<ItemStackGasToGasRecipe> DISSOLUTION = create("dissolution", (recipe, index) -> {
+        index.addItemInput(recipe.getItemInput());
+        index.addGasInput(recipe.getGasInput());
+    });
 
-    public static final MekanismRecipeType<ItemStackGasToItemStackRecipe> COMPRESSING = create("compressing");
-    public static final MekanismRecipeType<ItemStackGasToItemStackRecipe> PURIFYING = create("purifying");
-    public static final MekanismRecipeType<ItemStackGasToItemStackRecipe> INJECTING = create("injecting");
+    public static final MekanismRecipeType<ItemStackGasToItemStackRecipe> COMPRESSING = create("compressing", (recipe, index) -> {
+        index.addItemInput(recipe.getItemInput());
+        index.addGasInput(recipe.getGasInput());
+    });
+    public static final MekanismRecipeType<ItemStackGasToItemStackRecipe> PURIFYING = create("purifying", (recipe, index) -> {
+        index.addItemInput(recipe.getItemInput());
+        index.addGasInput(recipe.getGasInput());
+    });
+    public static final MekanismRecipeType<ItemStackGasToItemStackRecipe> INJECTING = create("injecting", (recipe, index) -> {
+        index.addItemInput(recipe.getItemInput());
+        index.addGasInput(recipe.getGasInput());
+    });
 
-    public static final MekanismRecipeType<ItemStackToGasRecipe> GAS_CONVERSION = create("gas_conversion");
-    public static final MekanismRecipeType<ItemStackToGasRecipe> OXIDIZING = create("oxidizing");
+    public static final MekanismRecipeType<ItemStackToGasRecipe> GAS_CONVERSION = create("gas_conversion", (recipe, index) -> index.addItemInput(recipe.getInput()));
+    public static final MekanismRecipeType<ItemStackToGasRecipe> OXIDIZING = create("oxidizing", (recipe, index) -> index.addItemInput(recipe.getInput()));
 
-    public static final MekanismRecipeType<ItemStackToInfuseTypeRecipe> INFUSION_CONVERSION = create("infusion_conversion");
+    public static final MekanismRecipeType<ItemStackToInfuseTypeRecipe> INFUSION_CONVERSION = create("infusion_conversion", (recipe, index) -> index.addItemInput(recipe.getInput()));
 
-    public static final MekanismRecipeType<MetallurgicInfuserRecipe> METALLURGIC_INFUSING = create("metallurgic_infusing");
+    public static final MekanismRecipeType<MetallurgicInfuserRecipe> METALLURGIC_INFUSING = create("metallurgic_infusing", (recipe, index) -> index.addItemInput(recipe.getItemInput()));
 
-    public static final MekanismRecipeType<PressurizedReactionRecipe> REACTION = create("reaction");
+    public static final MekanismRecipeType<PressurizedReactionRecipe> REACTION = create("reaction", (recipe, index) -> {
+        index.addItemInput(recipe.getInputSolid());
+        index.addFluidInput(recipe.getInputFluid());
+        index.addGasInput(recipe.getInputGas());
+    });
 
-    public static final MekanismRecipeType<RotaryRecipe> ROTARY = create("rotary");
+    public static final MekanismRecipeType<RotaryRecipe> ROTARY = create("rotary", (recipe, index) -> {
+        index.addFluidInput(recipe.getFluidInput());
+        index.addGasInput(recipe.getGasInput());
+    });
 
-    public static final MekanismRecipeType<SawmillRecipe> SAWING = create("sawing");
+    public static final MekanismRecipeType<SawmillRecipe> SAWING = create("sawing", (recipe, index) -> index.addItemInput(recipe.getInput()));
 
-    private static <RECIPE_TYPE extends MekanismRecipe> MekanismRecipeType<RECIPE_TYPE> create(String name) {
-        MekanismRecipeType<RECIPE_TYPE> type = new MekanismRecipeType<>(name);
+    private static <RECIPE_TYPE extends MekanismRecipe> MekanismRecipeType<RECIPE_TYPE> create(String name, InputExtractor<RECIPE_TYPE> inputExtractor) {
+        MekanismRecipeType<RECIPE_TYPE> type = new MekanismRecipeType<>(name, inputExtractor);
         types.add(type);
         return type;
     }
@@ -99,14 +130,21 @@ public class MekanismRecipeType<RECIPE_TYPE extends MekanismRecipe> implements I
 
     public static void clearCache() {
         //TODO: Does this need to also get cleared on disconnect
-        types.forEach(type -> type.cachedRecipes.clear());
+        types.forEach(type -> {
+            type.cachedRecipes = Collections.emptyList();
+            type.inputIndex = null;
+        });
     }
 
     private List<RECIPE_TYPE> cachedRecipes = Collections.emptyList();
+    @Nullable
+    private RecipeInputIndex<RECIPE_TYPE> inputIndex;
+    private final InputExtractor<RECIPE_TYPE> inputExtractor;
     private final ResourceLocation registryName;
 
-    private MekanismRecipeType(String name) {
+    private MekanismRecipeType(String name, InputExtractor<RECIPE_TYPE> inputExtractor) {
         this.registryName = Mekanism.rl(name);
+        this.inputExtractor = inputExtractor;
     }
 
     @Override
@@ -151,11 +189,20 @@ public class MekanismRecipeType<RECIPE_TYPE extends MekanismRecipe> implements I
                     }
                 }
             }
+            inputIndex = new RecipeInputIndex<>(recipes, inputExtractor);
             cachedRecipes = recipes;
         }
         return cachedRecipes;
     }
 
+    @Nullable
+    private RecipeInputIndex<RECIPE_TYPE> getInputIndex(@Nullable World world) {
+        if (getRecipes(world).isEmpty()) {
+            return null;
+        }
+        return inputIndex;
+    }
+
     public Stream<RECIPE_TYPE> stream(@Nullable World world) {
         return getRecipes(world).stream();
     }
@@ -168,4 +215,46 @@ public class MekanismRecipeType<RECIPE_TYPE extends MekanismRecipe> implements I
     public boolean contains(@Nullable World world, Predicate<RECIPE_TYPE> matchCriteria) {
         return stream(world).anyMatch(matchCriteria);
     }
+
+    /**
+     * Finds the first recipe that matches the given criteria, only testing the recipes with an input that may match the given key. The criteria should require the
+     * key to match one of the recipe's inputs.
+     */
+    @Nullable
+    public RECIPE_TYPE findFirst(@Nullable World world, @Nonnull ItemStack key, Predicate<RECIPE_TYPE> matchCriteria) {
+        RecipeInputIndex<RECIPE_TYPE> index = getInputIndex(world);
+        return index == null ? null : index.findFirst(key, matchCriteria);
+    }
+
+    /**
+     * Finds the first recipe that matches the given criteria, only testing the recipes with an input that may match the given key. The criteria should require the
+     * key to match one of the recipe's inputs.
+     */
+    @Nullable
+    public RECIPE_TYPE findFirst(@Nullable World world, @Nonnull FluidStack key, Predicate<RECIPE_TYPE> matchCriteria) {
+        RecipeInputIndex<RECIPE_TYPE> index = getInputIndex(world);
+        return index == null ? null : index.findFirst(key, matchCriteria);
+    }
+
+    /**
+     * Finds the first recipe that matches the given criteria, only testing the recipes with an input that may match the given key. The criteria should require the
+     * key to match one of the recipe's inputs.
+     */
+    @Nullable
+    public RECIPE_TYPE findFirst(@Nullable World world, @Nonnull Gas key, Predicate<RECIPE_TYPE> matchCriteria) {
+        RecipeInputIndex<RECIPE_TYPE> index = getInputIndex(world);
+        return index == null ? null : index.findFirst(key, matchCriteria);
+    }
+
+    public boolean contains(@Nullable World world, @Nonnull ItemStack key, Predicate<RECIPE_TYPE> matchCriteria) {
+        return findFirst(world, key, matchCriteria) != null;
+    }
+
+    public boolean contains(@Nullable World world, @Nonnull FluidStack key, Predicate<RECIPE_TYPE> matchCriteria) {
+        return findFirst(world, key, matchCriteria) != null;
+    }
+
+    public boolean contains(@Nullable World world, @Nonnull Gas key, Predicate<RECIPE_TYPE> matchCriteria) {
+        return findFirst(world, key, matchCriteria) != null;
+    }
 }
\ No newline at end of file
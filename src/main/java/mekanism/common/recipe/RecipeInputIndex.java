@@ -0,0 +1,142 @@
+package mekanism.common.recipe;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import javax.annotation.Nullable;
+import mekanism.api.gas.Gas;
+import mekanism.api.gas.GasStack;
+import mekanism.api.recipes.MekanismRecipe;
+import mekanism.api.recipes.inputs.FluidStackIngredient;
+import mekanism.api.recipes.inputs.GasStackIngredient;
+import mekanism.api.recipes.inputs.InputIngredient;
+import mekanism.api.recipes.inputs.ItemStackIngredient;
+import net.minecraft.fluid.Fluid;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
+
+/**
+ * Keeps track of which recipes have an input that can match a given item, fluid, or gas so that looking up a recipe only has to test the recipes that may match.
+ * Recipes are referenced by their position in the recipe list so that lookups still find the same recipe a scan of the list would.
+ *
+ * @param <RECIPE> Type of recipe this index is for.
+ */
+public class RecipeInputIndex<RECIPE extends MekanismRecipe> {
+
+    private final List<RECIPE> recipes;
+    private final Map<Item, IntList> itemIndex = new Object2ObjectOpenHashMap<>();
+    private final Map<Fluid, IntList> fluidIndex = new Object2ObjectOpenHashMap<>();
+    private final Map<Gas, IntList> gasIndex = new Object2ObjectOpenHashMap<>();
+    //Recipes with an input that doesn't list what it matches, these always have to be tested
+    private final IntList itemFallback = new IntArrayList();
+    private final IntList fluidFallback = new IntArrayList();
+    private final IntList gasFallback = new IntArrayList();
+    private int recipeIndex;
+
+    public RecipeInputIndex(List<RECIPE> recipes, InputExtractor<RECIPE> inputExtractor) {
+        this.recipes = recipes;
+        for (recipeIndex = 0; recipeIndex < recipes.size(); recipeIndex++) {
+            inputExtractor.addInputs(recipes.get(recipeIndex), this);
+        }
+    }
+
+    public void addItemInput(@Nullable ItemStackIngredient ingredient) {
+        addInput(ingredient, itemIndex, itemFallback, ItemStack::getItem);
+    }
+
+    public void addFluidInput(@Nullable FluidStackIngredient ingredient) {
+        addInput(ingredient, fluidIndex, fluidFallback, FluidStack::getFluid);
+    }
+
+    public void addGasInput(@Nullable GasStackIngredient ingredient) {
+        addInput(ingredient, gasIndex, gasFallback, GasStack::getType);
+    }
+
+    private <TYPE, KEY> void addInput(@Nullable InputIngredient<TYPE> ingredient, Map<KEY, IntList> index, IntList fallback, Function<TYPE, KEY> keyGetter) {
+        if (ingredient == null) {
+            return;
+        }
+        List<TYPE> representations = ingredient.getRepresentations();
+        if (representations.isEmpty()) {
+            addRecipe(fallback);
+        } else {
+            for (TYPE representation : representations) {
+                addRecipe(index.computeIfAbsent(keyGetter.apply(representation), key -> new IntArrayList()));
+            }
+        }
+    }
+
+    private void addRecipe(IntList recipeIndices) {
+        //Recipes are added in order, so if this recipe is already in the list it is the last element
+        if (recipeIndices.isEmpty() || recipeIndices.getInt(recipeIndices.size() - 1) != recipeIndex) {
+            recipeIndices.add(recipeIndex);
+        }
+    }
+
+    @Nullable
+    public RECIPE findFirst(ItemStack key, Predicate<RECIPE> matchCriteria) {
+        return findFirst(itemIndex.get(key.getItem()), itemFallback, matchCriteria);
+    }
+
+    @Nullable
+    public RECIPE findFirst(FluidStack key, Predicate<RECIPE> matchCriteria) {
+        return findFirst(fluidIndex.get(key.getFluid()), fluidFallback, matchCriteria);
+    }
+
+    @Nullable
+    public RECIPE findFirst(Gas key, Predicate<RECIPE> matchCriteria) {
+        return findFirst(gasIndex.get(key), gasFallback, matchCriteria);
+    }
+
+    /**
+     * Tests the indexed recipes and the fallback recipes in the order they are in the recipe list, returning the first one that matches.
+     */
+    @Nullable
+    private RECIPE findFirst(@Nullable IntList indexed, IntList fallback, Predicate<RECIPE> matchCriteria) {
+        int indexedSize = indexed == null ? 0 : indexed.size();
+        int fallbackSize = fallback.size();
+        int i = 0;
+        int j = 0;
+        while (i < indexedSize || j < fallbackSize) {
+            int next;
+            if (j == fallbackSize) {
+                next = indexed.getInt(i++);
+            } else if (i == indexedSize) {
+                next = fallback.getInt(j++);
+            } else {
+                int indexedNext = indexed.getInt(i);
+                int fallbackNext = fallback.getInt(j);
+                if (indexedNext <= fallbackNext) {
+                    i++;
+                    if (indexedNext == fallbackNext) {
+                        //The recipe has one input we indexed and one we couldn't, only test it once
+                        j++;
+                    }
+                    next = indexedNext;
+                } else {
+                    j++;
+                    next = fallbackNext;
+                }
+            }
+            RECIPE recipe = recipes.get(next);
+            if (matchCriteria.test(recipe)) {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
+    @FunctionalInterface
+    public interface InputExtractor<RECIPE extends MekanismRecipe> {
+
+        /**
+         * Adds the inputs of the given recipe to the index.
+         */
+        void addInputs(RECIPE recipe, RecipeInputIndex<RECIPE> index);
+    }
+}
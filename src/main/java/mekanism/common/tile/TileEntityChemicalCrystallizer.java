@@ -105,7 +105,7 @@ public class TileEntityChemicalCrystallizer extends TileEntityOperationalMachine
     @Override
     protected IInventorySlotHolder getInitialInventory() {
         InventorySlotHelper builder = InventorySlotHelper.forSideWithConfig(this::getDirection, this::getConfig);
-        builder.addSlot(inputSlot = GasInventorySlot.fill(inputTank, gas -> containsRecipe(recipe -> recipe.getInput().testType(gas)), this, 6, 65));
+        builder.addSlot(inputSlot = GasInventorySlot.fill(inputTank, gas -> containsRecipe(gas, recipe -> recipe.getInput().testType(gas)), this, 6, 65));
         builder.addSlot(outputSlot = OutputInventorySlot.at(this, 131, 57));
         builder.addSlot(energySlot = EnergyInventorySlot.discharge(this, 155, 5));
         return builder.build();
@@ -142,7 +142,7 @@ public class TileEntityChemicalCrystallizer extends TileEntityOperationalMachine
         if (gasStack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(gasStack));
+        return findFirstRecipe(gasStack.getType(), recipe -> recipe.test(gasStack));
     }
 
     @Nullable
@@ -187,7 +187,7 @@ public class TileEntityChemicalCrystallizer extends TileEntityOperationalMachine
 
     @Override
     public boolean canReceiveGas(Direction side, @Nonnull Gas type) {
-        return inputTank.canReceive(type) && containsRecipe(recipe -> recipe.getInput().testType(type));
+        return inputTank.canReceive(type) && containsRecipe(type, recipe -> recipe.getInput().testType(type));
     }
 
     @Override
@@ -91,7 +91,7 @@ public class TileEntityChemicalInfuser extends TileEntityMekanism implements IGa
     }
 
     public boolean isValidGas(@Nonnull Gas gas) {
-        return containsRecipe(recipe -> recipe.getLeftInput().testType(gas) || recipe.getRightInput().testType(gas));
+        return containsRecipe(gas, recipe -> recipe.getLeftInput().testType(gas) || recipe.getRightInput().testType(gas));
     }
 
     @Override
@@ -135,7 +135,7 @@ public class TileEntityChemicalInfuser extends TileEntityMekanism implements IGa
         if (rightGas.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(leftGas, rightGas));
+        return findFirstRecipe(leftGas.getType(), recipe -> recipe.test(leftGas, rightGas));
     }
 
     @Nullable
@@ -94,7 +94,7 @@ public class TileEntityChemicalWasher extends TileEntityMekanism implements IGas
     @Override
     protected IInventorySlotHolder getInitialInventory() {
         InventorySlotHelper builder = InventorySlotHelper.forSide(this::getDirection);
-        builder.addSlot(fluidSlot = FluidInventorySlot.fill(fluidTank, fluid -> containsRecipe(recipe -> recipe.getFluidInput().testType(fluid)), this, 180, 71),
+        builder.addSlot(fluidSlot = FluidInventorySlot.fill(fluidTank, fluid -> containsRecipe(fluid, recipe -> recipe.getFluidInput().testType(fluid)), this, 180, 71),
               RelativeSide.LEFT);
         //Output slot for the fluid container that was used as an input
         builder.addSlot(OutputInventorySlot.at(this, 180, 102), RelativeSide.TOP);
@@ -143,7 +143,7 @@ public class TileEntityChemicalWasher extends TileEntityMekanism implements IGas
         if (fluid.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(fluid, gasStack));
+        return findFirstRecipe(fluid, recipe -> recipe.test(fluid, gasStack));
     }
 
     @Nullable
@@ -164,7 +164,7 @@ public class TileEntityChemicalWasher extends TileEntityMekanism implements IGas
     }
 
     public boolean isValidGas(@Nonnull Gas gas) {
-        return containsRecipe(recipe -> recipe.getGasInput().testType(gas));
+        return containsRecipe(gas, recipe -> recipe.getGasInput().testType(gas));
     }
 
     @Override
@@ -218,7 +218,7 @@ public class TileEntityChemicalWasher extends TileEntityMekanism implements IGas
     @Override
     public boolean canReceiveGas(Direction side, @Nonnull Gas type) {
         if (getTank(side) == inputTank) {
-            return getTank(side).canReceive(type) && containsRecipe(recipe -> recipe.getGasInput().testType(type));
+            return getTank(side).canReceive(type) && containsRecipe(type, recipe -> recipe.getGasInput().testType(type));
         }
         return false;
     }
@@ -290,7 +290,7 @@ public class TileEntityChemicalWasher extends TileEntityMekanism implements IGas
         FluidStack currentFluid = fluidTank.getFluid();
         if (currentFluid.isEmpty()) {
             //If we don't have a fluid currently stored, then check if the fluid wanting to be input is valid for this machine
-            return containsRecipe(recipe -> recipe.getFluidInput().testType(fluid));
+            return containsRecipe(fluid, recipe -> recipe.getFluidInput().testType(fluid));
         }
         //Otherwise return true if the fluid is the same as the one we already have stored
         return currentFluid.isFluidEqual(fluid);
@@ -1,11 +1,8 @@
 package mekanism.common.tile;
 
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.ArrayList;
-import java.util.BitSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -15,7 +12,6 @@ import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.Action;
-import mekanism.api.Chunk3D;
 import mekanism.api.Coord4D;
 import mekanism.api.Range4D;
 import mekanism.api.RelativeSide;
@@ -32,9 +28,11 @@ import mekanism.common.base.ILogisticalTransporter;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.chunkloading.IChunkLoader;
 import mekanism.common.config.MekanismConfig;
+import mekanism.common.content.filter.FilterMatcher;
 import mekanism.common.content.miner.MItemStackFilter;
 import mekanism.common.content.miner.MTagFilter;
 import mekanism.common.content.miner.MinerFilter;
+import mekanism.common.content.miner.MinerTargets;
 import mekanism.common.content.miner.ThreadMinerSearch;
 import mekanism.common.content.miner.ThreadMinerSearch.State;
 import mekanism.common.content.transporter.InvStack;
@@ -69,6 +67,7 @@ import net.minecraft.item.Items;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.ListNBT;
 import net.minecraft.network.PacketBuffer;
+import net.minecraft.tags.BlockTags;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
 import net.minecraft.util.NonNullList;
@@ -76,7 +75,7 @@ import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.Vec3i;
-import net.minecraft.world.Region;
+import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.server.ServerWorld;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.capabilities.Capability;
@@ -91,9 +90,17 @@ import net.minecraftforge.items.ItemHandlerHelper;
 public class TileEntityDigitalMiner extends TileEntityMekanism implements IActiveState, ISustainedData, IChunkLoader, IAdvancedBoundingBlock,
       ITileFilterHolder<MinerFilter<?>> {
 
-    public Map<Chunk3D, BitSet> oresToMine = new Object2ObjectOpenHashMap<>();
-    public Int2ObjectMap<MinerFilter<?>> replaceMap = new Int2ObjectOpenHashMap<>();
+    public MinerTargets targets = new MinerTargets();
     private HashList<MinerFilter<?>> filters = new HashList<>();
+    /**
+     * Which of our filters match each block state, for checking blocks that changed since the search found them.
+     */
+    private final FilterMatcher<BlockState, MinerFilter<?>> filterMatcher = new FilterMatcher<>((filter, state) -> filter.canFilter(state),
+          BlockTags::getGeneration);
+    /**
+     * Whether the filters have been edited since the search started, in which case the filters the search matched the targets against are stale.
+     */
+    private boolean filtersChanged;
     public ThreadMinerSearch searcher = new ThreadMinerSearch(this);
 
     private int radius;
@@ -185,78 +192,50 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IActiv
 
             energySlot.discharge(this);
 
-            if (MekanismUtils.canFunction(this) && running && getEnergy() >= getEnergyPerTick() && searcher.state == State.FINISHED && !oresToMine.isEmpty()) {
+            if (MekanismUtils.canFunction(this) && running && getEnergy() >= getEnergyPerTick() && searcher.state == State.FINISHED && !targets.isEmpty()) {
                 setActive(true);
                 if (delay > 0) {
                     delay--;
                 }
                 setEnergy(getEnergy() - getEnergyPerTick());
                 if (delay == 0) {
-                    boolean did = false;
-                    for (Iterator<Chunk3D> it = oresToMine.keySet().iterator(); it.hasNext(); ) {
-                        Chunk3D chunk = it.next();
-                        BitSet set = oresToMine.get(chunk);
-                        int next = 0;
-                        while (!did) {
-                            int index = set.nextSetBit(next);
-                            Coord4D coord = getCoordFromIndex(index);
-                            if (index == -1) {
-                                it.remove();
-                                break;
-                            }
+                    while (!targets.isEmpty()) {
+                        BlockPos coordPos = BlockPos.fromLong(targets.getPos());
+                        if (!world.isBlockLoaded(coordPos) || world.isAirBlock(coordPos)) {
+                            targets.pop();
+                            continue;
+                        }
 
-                            BlockPos coordPos = coord.getPos();
-                            if (!world.isBlockLoaded(coordPos)) {
-                                set.clear(index);
-                                if (set.cardinality() == 0) {
-                                    it.remove();
-                                    break;
-                                }
-                                next = index + 1;
-                                continue;
-                            }
-                            if (world.isAirBlock(coordPos)) {
-                                set.clear(index);
-                                if (set.cardinality() == 0) {
-                                    it.remove();
-                                    break;
-                                }
-                                next = index + 1;
+                        BlockState state = world.getBlockState(coordPos);
+                        if (filterMatcher.update(filters)) {
+                            filtersChanged = true;
+                        }
+                        MinerFilter<?> filter = targets.getFilter();
+                        if (filtersChanged || state != targets.getState()) {
+                            //The filters or the block changed since the search matched it against the filters, so check it again
+                            int[] matches = filterMatcher.getMatches(state);
+                            boolean hasFilter = matches.length > 0;
+                            if (inverse == hasFilter) {
+                                targets.pop();
                                 continue;
                             }
+                            filter = hasFilter ? filterMatcher.getFilter(matches[0]) : null;
+                        }
 
-                            boolean hasFilter = false;
-                            BlockState state = world.getBlockState(coordPos);
-                            for (MinerFilter<?> filter : filters) {
-                                if (filter.canFilter(state)) {
-                                    hasFilter = true;
-                                    break;
-                                }
-                            }
-
-                            if (inverse == hasFilter || !canMine(coord)) {
-                                set.clear(index);
-                                if (set.cardinality() == 0) {
-                                    it.remove();
-                                    break;
-                                }
-                                next = index + 1;
-                                continue;
-                            }
+                        Coord4D coord = new Coord4D(coordPos, world);
+                        if (!canMine(coord)) {
+                            targets.pop();
+                            continue;
+                        }
 
-                            List<ItemStack> drops = MinerUtils.getDrops((ServerWorld) world, coord, silkTouch, this.pos);
-                            if (canInsert(drops) && setReplace(coord, index)) {
-                                did = true;
-                                add(drops);
-                                set.clear(index);
-                                if (set.cardinality() == 0) {
-                                    it.remove();
-                                }
-                                world.playEvent(WorldEvents.BREAK_BLOCK_EFFECTS, coordPos, Block.getStateId(state));
-                                missingStack = ItemStack.EMPTY;
-                            }
-                            break;
+                        List<ItemStack> drops = MinerUtils.getDrops((ServerWorld) world, coord, silkTouch, this.pos);
+                        if (canInsert(drops) && setReplace(coord, filter)) {
+                            add(drops);
+                            targets.pop();
+                            world.playEvent(WorldEvents.BREAK_BLOCK_EFFECTS, coordPos, Block.getStateId(state));
+                            missingStack = ItemStack.EMPTY;
                         }
+                        break;
                     }
                     delay = getDelay();
                 }
@@ -326,8 +305,8 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IActiv
     /*
      * returns false if unsuccessful
      */
-    public boolean setReplace(Coord4D obj, int index) {
-        ItemStack stack = getReplace(index);
+    public boolean setReplace(Coord4D obj, @Nullable MinerFilter<?> filter) {
+        ItemStack stack = getReplace(filter);
         BlockPos pos = obj.getPos();
         PlayerEntity fakePlayer = Objects.requireNonNull(Mekanism.proxy.getDummyPlayer((ServerWorld) world, this.pos).get());
 
@@ -341,7 +320,6 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IActiv
             }
             return true;
         } else {
-            MinerFilter<?> filter = replaceMap.get(index);
             if (filter == null || filter.replaceStack.isEmpty() || !filter.requireStack) {
                 world.removeBlock(pos, false);
                 return true;
@@ -359,8 +337,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IActiv
         return !event.isCanceled();
     }
 
-    public ItemStack getReplace(int index) {
-        MinerFilter<?> filter = replaceMap.get(index);
+    public ItemStack getReplace(@Nullable MinerFilter<?> filter) {
         if (filter == null || filter.replaceStack.isEmpty()) {
             return ItemStack.EMPTY;
         }
@@ -468,7 +445,17 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IActiv
         }
         if (searcher.state == State.IDLE) {
             BlockPos startingPos = getStartingCoord().getPos();
-            searcher.setChunkCache(new Region(getWorld(), startingPos, startingPos.add(getDiameter(), maxY - minY + 1, getDiameter())), getWorld().getDimension().getType());
+            int diameter = getDiameter();
+            List<Chunk> chunks = new ArrayList<>();
+            for (int chunkX = startingPos.getX() >> 4; chunkX <= (startingPos.getX() + diameter - 1) >> 4; chunkX++) {
+                for (int chunkZ = startingPos.getZ() >> 4; chunkZ <= (startingPos.getZ() + diameter - 1) >> 4; chunkZ++) {
+                    chunks.add(getWorld().getChunk(chunkX, chunkZ));
+                }
+            }
+            //Remember which filters the search is matching against so that we notice if they get edited while we are running
+            filterMatcher.update(filters);
+            filtersChanged = false;
+            searcher.setChunks(chunks);
             searcher.start();
         }
         running = true;
@@ -489,8 +476,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IActiv
     public void reset() {
         searcher = new ThreadMinerSearch(this);
         running = false;
-        oresToMine.clear();
-        replaceMap.clear();
+        targets.clear();
         missingStack = ItemStack.EMPTY;
         setActive(false);
         MekanismUtils.saveChunk(this);
@@ -506,11 +492,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IActiv
     }
 
     public int getSize() {
-        int size = 0;
-        for (Chunk3D chunk : oresToMine.keySet()) {
-            size += oresToMine.get(chunk).cardinality();
-        }
-        return size;
+        return targets.size();
     }
 
     @Override
@@ -727,15 +709,6 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IActiv
         return new Coord4D(getPos().getX() - radius, minY, getPos().getZ() - radius, world.getDimension().getType());
     }
 
-    public Coord4D getCoordFromIndex(int index) {
-        int diameter = getDiameter();
-        Coord4D start = getStartingCoord();
-        int x = start.x + index % diameter;
-        int y = start.y + (index / diameter / diameter);
-        int z = start.z + (index / diameter) % diameter;
-        return new Coord4D(x, y, z, world.getDimension().getType());
-    }
-
     @Override
     public boolean isPowered() {
         return redstone || numPowering > 0;
@@ -1,10 +1,5 @@
 package mekanism.common.tile;
 
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
-import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.IConfigurable;
@@ -18,6 +13,7 @@ import mekanism.common.MekanismLang;
 import mekanism.common.base.FluidHandlerWrapper;
 import mekanism.common.base.IFluidHandlerWrapper;
 import mekanism.common.base.ITankManager;
+import mekanism.common.base.NodeSet;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.integration.computer.IComputerIntegration;
@@ -43,14 +39,12 @@ import net.minecraft.fluid.Fluid;
 import net.minecraft.fluid.Fluids;
 import net.minecraft.fluid.IFluidState;
 import net.minecraft.nbt.CompoundNBT;
-import net.minecraft.nbt.ListNBT;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.ActionResultType;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.common.capabilities.Capability;
-import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.fluids.FluidAttributes;
 import net.minecraftforge.fluids.FluidStack;
@@ -85,7 +79,7 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IFluid
     /**
      * The nodes that have full sources near them or in them
      */
-    private Set<BlockPos> recurringNodes = new ObjectOpenHashSet<>();
+    private NodeSet recurringNodes = new NodeSet();
 
     private FluidInventorySlot inputSlot;
     private OutputInventorySlot outputSlot;
@@ -161,24 +155,27 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IFluid
             }
         }
         //Even though we can add to recurring in the above for loop, we always then exit and don't get to here if we did so
-        List<BlockPos> tempPumpList = Arrays.asList(recurringNodes.toArray(new BlockPos[0]));
-        Collections.shuffle(tempPumpList);
+        int maxRange = MekanismConfig.general.maxPumpRange.get();
+        long maxRangeSq = (long) maxRange * maxRange;
         //Finally, go over the recurring list of nodes and see if there is a fluid block available to suck - if not, will iterate around the recurring block, attempt to suck,
-        //and then add the adjacent block to the recurring list
-        for (BlockPos tempPumpPos : tempPumpList) {
+        //and then add the adjacent block to the recurring list. Nodes we sucked from get moved to the back so that we keep spreading out over all of them
+        while (!recurringNodes.isEmpty()) {
+            BlockPos tempPumpPos = recurringNodes.getFirst();
             if (suck(tempPumpPos, hasFilter, false)) {
+                recurringNodes.moveToLast(tempPumpPos);
                 return true;
             }
             //Add all the blocks surrounding this recurring node to the recurring node list
             for (Direction orientation : EnumUtils.DIRECTIONS) {
                 BlockPos side = tempPumpPos.offset(orientation);
-                if (Math.sqrt(pos.distanceSq(side)) <= MekanismConfig.general.maxPumpRange.get()) {
+                if (pos.distanceSq(side) <= maxRangeSq) {
                     if (suck(side, hasFilter, true)) {
+                        recurringNodes.moveToLast(tempPumpPos);
                         return true;
                     }
                 }
             }
-            recurringNodes.remove(tempPumpPos);
+            recurringNodes.removeFirst();
         }
         return false;
     }
@@ -294,17 +291,7 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IFluid
         if (!fluidTank.isEmpty()) {
             nbtTags.put("fluidTank", fluidTank.writeToNBT(new CompoundNBT()));
         }
-        ListNBT recurringList = new ListNBT();
-        for (BlockPos nodePos : recurringNodes) {
-            CompoundNBT tagCompound = new CompoundNBT();
-            tagCompound.putInt("x", nodePos.getX());
-            tagCompound.putInt("y", nodePos.getY());
-            tagCompound.putInt("z", nodePos.getZ());
-            recurringList.add(tagCompound);
-        }
-        if (!recurringList.isEmpty()) {
-            nbtTags.put("recurringNodes", recurringList);
-        }
+        recurringNodes.write(nbtTags, "recurringNodes");
         return nbtTags;
     }
 
@@ -319,13 +306,7 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IFluid
         if (nbtTags.contains("fluidTank")) {
             fluidTank.readFromNBT(nbtTags.getCompound("fluidTank"));
         }
-        if (nbtTags.contains("recurringNodes")) {
-            ListNBT tagList = nbtTags.getList("recurringNodes", NBT.TAG_COMPOUND);
-            for (int i = 0; i < tagList.size(); i++) {
-                CompoundNBT compound = tagList.getCompound(i);
-                recurringNodes.add(new BlockPos(compound.getInt("x"), compound.getInt("y"), compound.getInt("z")));
-            }
-        }
+        recurringNodes.read(nbtTags, "recurringNodes", compound -> new BlockPos(compound.getInt("x"), compound.getInt("y"), compound.getInt("z")));
     }
 
     @Override
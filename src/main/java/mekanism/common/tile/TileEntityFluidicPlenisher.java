@@ -1,9 +1,6 @@
 package mekanism.common.tile;
 
-import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.EnumSet;
-import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.IConfigurable;
@@ -15,6 +12,7 @@ import mekanism.api.text.EnumColor;
 import mekanism.common.MekanismLang;
 import mekanism.common.base.FluidHandlerWrapper;
 import mekanism.common.base.IFluidHandlerWrapper;
+import mekanism.common.base.NodeSet;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.integration.computer.IComputerIntegration;
@@ -30,14 +28,12 @@ import mekanism.common.util.PipeUtils;
 import mekanism.common.util.TileUtils;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.nbt.CompoundNBT;
-import net.minecraft.nbt.ListNBT;
 import net.minecraft.nbt.NBTUtil;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.ActionResultType;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.common.capabilities.Capability;
-import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.fluids.FluidAttributes;
 import net.minecraftforge.fluids.FluidStack;
@@ -50,8 +46,8 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
 
     private static final String[] methods = new String[]{"reset"};
     private static EnumSet<Direction> dirs = EnumSet.complementOf(EnumSet.of(Direction.UP));
-    public Set<BlockPos> activeNodes = new ObjectLinkedOpenHashSet<>();
-    public Set<BlockPos> usedNodes = new ObjectOpenHashSet<>();
+    public NodeSet activeNodes = new NodeSet();
+    public NodeSet usedNodes = new NodeSet();
     public boolean finishedCalc;
     public FluidTank fluidTank;
     /**
@@ -142,8 +138,9 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
             }
         }
 
-        Set<BlockPos> toRemove = new ObjectOpenHashSet<>();
-        for (BlockPos coordPos : activeNodes) {
+        while (!activeNodes.isEmpty()) {
+            BlockPos coordPos = activeNodes.getFirst();
+            activeNodes.removeFirst();
             if (MekanismUtils.isBlockLoaded(world, coordPos)) {
                 FluidStack fluid = fluidTank.getFluid();
                 if (canReplace(coordPos, true, false) && !fluid.isEmpty()) {
@@ -157,14 +154,11 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
                         activeNodes.add(sidePos);
                     }
                 }
-                toRemove.add(coordPos);
+                usedNodes.add(coordPos);
                 break;
-            } else {
-                toRemove.add(coordPos);
             }
+            usedNodes.add(coordPos);
         }
-        usedNodes.addAll(toRemove);
-        activeNodes.removeAll(toRemove);
     }
 
     public boolean canReplace(BlockPos pos, boolean checkNodes, boolean isPathfinding) {
@@ -208,21 +202,8 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
             nbtTags.put("fluidTank", fluidTank.writeToNBT(new CompoundNBT()));
         }
 
-        ListNBT activeList = new ListNBT();
-        for (BlockPos wrapper : activeNodes) {
-            activeList.add(NBTUtil.writeBlockPos(wrapper));
-        }
-        if (!activeList.isEmpty()) {
-            nbtTags.put("activeNodes", activeList);
-        }
-
-        ListNBT usedList = new ListNBT();
-        for (BlockPos obj : usedNodes) {
-            activeList.add(NBTUtil.writeBlockPos(obj));
-        }
-        if (!activeList.isEmpty()) {
-            nbtTags.put("usedNodes", usedList);
-        }
+        activeNodes.write(nbtTags, "activeNodes");
+        usedNodes.write(nbtTags, "usedNodes");
         return nbtTags;
     }
 
@@ -236,19 +217,8 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
             fluidTank.readFromNBT(nbtTags.getCompound("fluidTank"));
         }
 
-        if (nbtTags.contains("activeNodes")) {
-            ListNBT tagList = nbtTags.getList("activeNodes", NBT.TAG_COMPOUND);
-            for (int i = 0; i < tagList.size(); i++) {
-                activeNodes.add(NBTUtil.readBlockPos(tagList.getCompound(i)));
-            }
-        }
-        if (nbtTags.contains("usedNodes")) {
-            ListNBT tagList = nbtTags.getList("usedNodes", NBT.TAG_COMPOUND);
-
-            for (int i = 0; i < tagList.size(); i++) {
-                usedNodes.add(NBTUtil.readBlockPos(tagList.getCompound(i)));
-            }
-        }
+        activeNodes.read(nbtTags, "activeNodes", NBTUtil::readBlockPos);
+        usedNodes.read(nbtTags, "usedNodes", NBTUtil::readBlockPos);
     }
 
     @Override
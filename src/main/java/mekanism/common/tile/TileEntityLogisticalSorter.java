@@ -1,5 +1,7 @@
 package mekanism.common.tile;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.Iterator;
 import java.util.Map;
@@ -15,6 +17,7 @@ import mekanism.common.HashList;
 import mekanism.common.Mekanism;
 import mekanism.common.base.ILogisticalTransporter;
 import mekanism.common.capabilities.Capabilities;
+import mekanism.common.content.filter.FilterMatcher;
 import mekanism.common.content.transporter.Finder;
 import mekanism.common.content.transporter.InvStack;
 import mekanism.common.content.transporter.StackSearcher;
@@ -40,20 +43,28 @@ import mekanism.common.util.StackUtils;
 import mekanism.common.util.TransporterUtils;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.ListNBT;
 import net.minecraft.network.PacketBuffer;
+import net.minecraft.tags.ItemTags;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.items.IItemHandler;
 
 public class TileEntityLogisticalSorter extends TileEntityMekanism implements ISpecialConfigData, ISustainedData, IComputerIntegration,
       ITileFilterHolder<TransporterFilter<?>> {
 
     private HashList<TransporterFilter<?>> filters = new HashList<>();
+    /**
+     * Which of our filters may match each item, only used on the server.
+     */
+    private final FilterMatcher<Item, TransporterFilter<?>> filterMatcher = new FilterMatcher<>((filter, item) -> filter.getFinder().modifies(new ItemStack(item)),
+          ItemTags::getGeneration);
     public EnumColor color;
     public boolean autoEject;
     public boolean roundRobin;
@@ -92,29 +103,50 @@ public class TileEntityLogisticalSorter extends TileEntityMekanism implements IS
                 if (InventoryUtils.isItemHandler(back, getDirection()) && front != null) {
                     boolean sentItems = false;
                     int min = 0;
+                    filterMatcher.update(filters);
+                    int filterCount = filterMatcher.getFilterCount();
+                    if (filterCount > 0) {
+                        //Look at each slot of the inventory once, and group the slots by the filters that may match them
+                        IItemHandler inventory = InventoryUtils.getItemHandler(back, getDirection());
+                        int slots = inventory.getSlots();
+                        ItemStack[] slotStacks = new ItemStack[slots];
+                        IntList[] filterSlots = new IntList[filterCount];
+                        for (int slot = slots - 1; slot >= 0; slot--) {
+                            ItemStack stack = inventory.extractItem(slot, singleItem ? 1 : 64, true);
+                            if (!stack.isEmpty()) {
+                                slotStacks[slot] = stack;
+                                for (int filterIndex : filterMatcher.getMatches(stack.getItem())) {
+                                    if (filterSlots[filterIndex] == null) {
+                                        filterSlots[filterIndex] = new IntArrayList();
+                                    }
+                                    filterSlots[filterIndex].add(slot);
+                                }
+                            }
+                        }
 
-                    outer:
-                    for (TransporterFilter<?> filter : filters) {
-                        for (StackSearcher search = new StackSearcher(back, getOppositeDirection()); search.getSlotCount() >= 0; ) {
-                            InvStack invStack = filter.getStackFromInventory(search, singleItem);
-                            if (invStack == null) {
-                                break;
+                        outer:
+                        for (int filterIndex = 0; filterIndex < filterCount; filterIndex++) {
+                            IntList matchingSlots = filterSlots[filterIndex];
+                            if (matchingSlots == null) {
+                                continue;
                             }
-                            ItemStack itemStack = invStack.getStack();
-                            if (filter.canFilter(itemStack, !singleItem)) {
-                                if (!singleItem && filter instanceof TItemStackFilter) {
-                                    TItemStackFilter itemFilter = (TItemStackFilter) filter;
-                                    if (itemFilter.sizeMode) {
-                                        min = itemFilter.min;
+                            TransporterFilter<?> filter = filterMatcher.getFilter(filterIndex);
+                            if (!singleItem && filter instanceof TItemStackFilter && ((TItemStackFilter) filter).sizeMode) {
+                                //Size mode filters gather their items from multiple slots, so let them search the inventory themselves
+                                InvStack invStack = filter.getStackFromInventory(new StackSearcher(back, getOppositeDirection()), false);
+                                if (invStack != null && filter.canFilter(invStack.getStack(), true)) {
+                                    min = ((TItemStackFilter) filter).min;
+                                    if (emitFromInventory(back, front, invStack, filter.color, min)) {
+                                        sentItems = true;
+                                        break;
                                     }
                                 }
-
-                                TransitRequest request = TransitRequest.getFromStack(itemStack);
-                                TransitResponse response = emitItemToTransporter(front, request, filter.color, min);
-                                if (!response.isEmpty()) {
-                                    invStack.use(response.getSendingAmount());
-                                    back.markDirty();
-                                    setActive(true);
+                                continue;
+                            }
+                            for (int i = 0, size = matchingSlots.size(); i < size; i++) {
+                                int slot = matchingSlots.getInt(i);
+                                ItemStack stack = slotStacks[slot];
+                                if (filter.canFilter(stack, !singleItem) && emitFromInventory(back, front, new InvStack(back, slot, stack, getDirection()), filter.color, min)) {
                                     sentItems = true;
                                     break outer;
                                 }
@@ -141,6 +173,17 @@ public class TileEntityLogisticalSorter extends TileEntityMekanism implements IS
         }
     }
 
+    private boolean emitFromInventory(TileEntity back, TileEntity front, InvStack invStack, EnumColor filterColor, int min) {
+        TransitResponse response = emitItemToTransporter(front, TransitRequest.getFromStack(invStack.getStack()), filterColor, min);
+        if (!response.isEmpty()) {
+            invStack.use(response.getSendingAmount());
+            back.markDirty();
+            setActive(true);
+            return true;
+        }
+        return false;
+    }
+
     public TransitResponse emitItemToTransporter(TileEntity front, TransitRequest request, EnumColor filterColor, int min) {
         Optional<ILogisticalTransporter> capability = MekanismUtils.toOptional(CapabilityUtils.getCapability(front, Capabilities.LOGISTICAL_TRANSPORTER_CAPABILITY, getOppositeDirection()));
         if (capability.isPresent()) {
@@ -587,7 +630,8 @@ public class TileEntityLogisticalSorter extends TileEntityMekanism implements IS
 
         @Override
         public boolean modifies(ItemStack stack) {
-            for (TransporterFilter<?> filter : filters) {
+            for (int filterIndex : filterMatcher.getMatches(stack.getItem())) {
+                TransporterFilter<?> filter = filterMatcher.getFilter(filterIndex);
                 if (filter.canFilter(stack, false) && !filter.allowDefault) {
                     return false;
                 }
@@ -66,6 +66,12 @@ public abstract class TileEntityMultiblock<T extends SynchronizedData<T>> extend
     @Nullable
     public String cachedID = null;
 
+    /**
+     * The structure this segment last shared its cache with, a new structure object means the segments may have changed, and the cache has to be shared again.
+     */
+    @Nullable
+    private T sharedStructure;
+
     public TileEntityMultiblock(IBlockProvider blockProvider) {
         super(blockProvider);
     }
@@ -92,6 +98,7 @@ public abstract class TileEntityMultiblock<T extends SynchronizedData<T>> extend
         if (!isRemote()) {
             if (structure == null) {
                 isRendering = false;
+                sharedStructure = null;
                 if (cachedID != null) {
                     getManager().updateCache(this);
                 }
@@ -127,15 +134,40 @@ public abstract class TileEntityMultiblock<T extends SynchronizedData<T>> extend
 
             if (structure != null) {
                 structure.didTick = false;
-                if (structure.inventoryID != null) {
+                if (structure.inventoryID != null && isRendering) {
+                    //The segments of a structure all share one cache, so only the rendering segment has to keep it in sync. The ID can match even though the
+                    // segments still have their own copies, such as after they got loaded, so check if this is a different structure instead.
+                    if (structure != sharedStructure) {
+                        shareCache();
+                    }
                     cachedData.sync(structure);
-                    cachedID = structure.inventoryID;
-                    getManager().updateCache(this);
                 }
             }
         }
     }
 
+    /**
+     * Gives every segment of the structure this segment's cache and registers it and all their locations with the manager, so that syncing the cache once a tick
+     * keeps the data each segment saves and the data the manager has for the structure up to date. Segments that join later form a new structure, which shares the
+     * cache again.
+     */
+    private void shareCache() {
+        sharedStructure = structure;
+        cachedID = structure.inventoryID;
+        for (Coord4D obj : structure.locations) {
+            TileEntityMultiblock<T> tile = (TileEntityMultiblock<T>) MekanismUtils.getTileEntity(TileEntityMultiblock.class, getWorld(), obj.getPos());
+            if (tile != null) {
+                if (tile.cachedID != null && !tile.cachedID.equals(cachedID)) {
+                    //The segment is moving over from a different cache
+                    getManager().markDirty(obj);
+                }
+                tile.cachedData = cachedData;
+                tile.cachedID = cachedID;
+            }
+        }
+        getManager().updateCache(this, structure.locations);
+    }
+
     @Override
     public void doUpdate() {
         if (!isRemote() && (structure == null || !structure.didTick)) {
@@ -146,6 +178,23 @@ public abstract class TileEntityMultiblock<T extends SynchronizedData<T>> extend
         }
     }
 
+    @Override
+    public void remove() {
+        super.remove();
+        if (!isRemote() && cachedID != null) {
+            getManager().markDirty(Coord4D.get(this));
+        }
+    }
+
+    @Override
+    public void doUpdate(BlockPos changedPos) {
+        if (!isRemote() && structure != null && !structure.didTick && getProtocol().isUnaffected(changedPos)) {
+            //Only the changed block had to be checked, and the structure is still the way it was
+            return;
+        }
+        doUpdate();
+    }
+
     public void sendPacketToRenderer() {
         if (structure != null) {
             for (Coord4D obj : structure.locations) {
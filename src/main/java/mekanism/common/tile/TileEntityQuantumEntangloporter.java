@@ -221,19 +221,18 @@ public class TileEntityQuantumEntangloporter extends TileEntityMekanism implemen
 
     public void setFrequency(String name, boolean publicFreq) {
         FrequencyManager manager = getManager(new InventoryFrequency(name, null).setPublic(publicFreq));
-        manager.deactivate(Coord4D.get(this));
-        for (Frequency freq : manager.getFrequencies()) {
-            if (freq.name.equals(name)) {
-                frequency = (InventoryFrequency) freq;
-                frequency.activeCoords.add(Coord4D.get(this));
-                markDirty();
-                return;
-            }
+        Frequency freq = manager.getFrequency(name);
+        if (freq != null) {
+            frequency = (InventoryFrequency) freq;
+            manager.activate(Coord4D.get(this), frequency);
+            markDirty();
+            return;
         }
 
-        Frequency freq = new InventoryFrequency(name, getSecurity().getOwnerUUID()).setPublic(publicFreq);
-        freq.activeCoords.add(Coord4D.get(this));
+        manager.deactivate(Coord4D.get(this));
+        freq = new InventoryFrequency(name, getSecurity().getOwnerUUID()).setPublic(publicFreq);
         manager.addFrequency(freq);
+        manager.activate(Coord4D.get(this), freq);
         frequency = (InventoryFrequency) freq;
         MekanismUtils.saveChunk(this);
         markDirty();
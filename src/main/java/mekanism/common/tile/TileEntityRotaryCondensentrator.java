@@ -136,11 +136,11 @@ public class TileEntityRotaryCondensentrator extends TileEntityMekanism implemen
     }
 
     public boolean isValidGas(@Nonnull Gas gas) {
-        return !gas.isEmptyType() && containsRecipe(recipe -> recipe.hasGasToFluid() && recipe.getGasInput().testType(gas));
+        return !gas.isEmptyType() && containsRecipe(gas, recipe -> recipe.hasGasToFluid() && recipe.getGasInput().testType(gas));
     }
 
     public boolean isValidFluid(@Nonnull FluidStack fluidStack) {
-        return !fluidStack.isEmpty() && containsRecipe(recipe -> recipe.hasFluidToGas() && recipe.getFluidInput().testType(fluidStack));
+        return !fluidStack.isEmpty() && containsRecipe(fluidStack, recipe -> recipe.hasFluidToGas() && recipe.getFluidInput().testType(fluidStack));
     }
 
     @Override
@@ -362,14 +362,14 @@ public class TileEntityRotaryCondensentrator extends TileEntityMekanism implemen
             if (fluid.isEmpty()) {
                 return null;
             }
-            return findFirstRecipe(recipe -> recipe.test(fluid));
+            return findFirstRecipe(fluid, recipe -> recipe.test(fluid));
         }
         //Gas to Fluid
         GasStack gas = gasInputHandler.getInput();
         if (gas.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(gas));
+        return findFirstRecipe(gas.getType(), recipe -> recipe.test(gas));
     }
 
     @Nullable
@@ -117,18 +117,17 @@ public class TileEntitySecurityDesk extends TileEntityMekanism implements IBound
 
     public void setFrequency(UUID owner) {
         FrequencyManager manager = Mekanism.securityFrequencies;
-        manager.deactivate(Coord4D.get(this));
-        for (Frequency freq : manager.getFrequencies()) {
-            if (freq.ownerUUID.equals(owner)) {
-                frequency = (SecurityFrequency) freq;
-                frequency.activeCoords.add(Coord4D.get(this));
-                return;
-            }
+        Frequency freq = manager.getFrequency(SecurityFrequency.SECURITY, owner);
+        if (freq != null) {
+            frequency = (SecurityFrequency) freq;
+            manager.activate(Coord4D.get(this), frequency);
+            return;
         }
 
-        Frequency freq = new SecurityFrequency(owner).setPublic(true);
-        freq.activeCoords.add(Coord4D.get(this));
+        manager.deactivate(Coord4D.get(this));
+        freq = new SecurityFrequency(owner).setPublic(true);
         manager.addFrequency(freq);
+        manager.activate(Coord4D.get(this), freq);
         frequency = (SecurityFrequency) freq;
         MekanismUtils.saveChunk(this);
         markDirty();
@@ -14,6 +14,7 @@ import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.ActionResultType;
 import net.minecraft.util.Direction;
 import net.minecraft.util.Hand;
+import net.minecraft.util.math.BlockPos;
 
 public class TileEntityStructuralGlass extends TileEntity implements IStructuralMultiblock {
 
@@ -52,6 +53,18 @@ public class TileEntityStructuralGlass extends TileEntity implements IStructural
         }
     }
 
+    @Override
+    public void doUpdate(BlockPos changedPos) {
+        if (master != null) {
+            TileEntity masterTile = MekanismUtils.getTileEntity(getWorld(), master.getPos());
+            if (masterTile instanceof IMultiblock) {
+                ((IMultiblock<?>) masterTile).doUpdate(changedPos);
+                return;
+            }
+        }
+        doUpdate();
+    }
+
     @Override
     public boolean canInterface(TileEntity controller) {
         return true;
@@ -177,18 +177,17 @@ public class TileEntityTeleporter extends TileEntityMekanism implements ICompute
 
     public void setFrequency(String name, boolean publicFreq) {
         FrequencyManager manager = getManager(new Frequency(name, null).setPublic(publicFreq));
-        manager.deactivate(Coord4D.get(this));
-        for (Frequency freq : manager.getFrequencies()) {
-            if (freq.name.equals(name)) {
-                frequency = freq;
-                frequency.activeCoords.add(Coord4D.get(this));
-                MekanismUtils.saveChunk(this);
-                return;
-            }
+        Frequency freq = manager.getFrequency(name);
+        if (freq != null) {
+            frequency = freq;
+            manager.activate(Coord4D.get(this), frequency);
+            MekanismUtils.saveChunk(this);
+            return;
         }
-        Frequency freq = new Frequency(name, getSecurity().getOwnerUUID()).setPublic(publicFreq);
-        freq.activeCoords.add(Coord4D.get(this));
+        manager.deactivate(Coord4D.get(this));
+        freq = new Frequency(name, getSecurity().getOwnerUUID()).setPublic(publicFreq);
         manager.addFrequency(freq);
+        manager.activate(Coord4D.get(this), freq);
         frequency = freq;
         MekanismUtils.saveChunk(this);
     }
@@ -115,7 +115,7 @@ public class TileEntityThermalEvaporationController extends TileEntityThermalEva
     protected IInventorySlotHolder getInitialInventory() {
         //TODO: Make the inventory be accessible via the valves instead
         InventorySlotHelper builder = InventorySlotHelper.forSide(this::getDirection);
-        builder.addSlot(inputInputSlot = FluidInventorySlot.fill(inputTank, fluid -> containsRecipe(recipe -> recipe.getInput().testType(fluid)), this, 28, 20));
+        builder.addSlot(inputInputSlot = FluidInventorySlot.fill(inputTank, fluid -> containsRecipe(fluid, recipe -> recipe.getInput().testType(fluid)), this, 28, 20));
         builder.addSlot(outputInputSlot = OutputInventorySlot.at(this, 28, 51));
         builder.addSlot(inputOutputSlot = FluidInventorySlot.drain(outputTank, this, 132, 20));
         builder.addSlot(outputOutputSlot = OutputInventorySlot.at(this, 132, 51));
@@ -164,7 +164,7 @@ public class TileEntityThermalEvaporationController extends TileEntityThermalEva
     }
 
     public boolean hasRecipe(FluidStack fluid) {
-        return containsRecipe(recipe -> recipe.getInput().testType(fluid));
+        return containsRecipe(fluid, recipe -> recipe.getInput().testType(fluid));
     }
 
     protected void refresh() {
@@ -209,7 +209,7 @@ public class TileEntityThermalEvaporationController extends TileEntityThermalEva
         if (fluid.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(fluid));
+        return findFirstRecipe(fluid, recipe -> recipe.test(fluid));
     }
 
     @Nullable
@@ -1,5 +1,6 @@
 package mekanism.common.tile.base;
 
+import io.netty.buffer.Unpooled;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -28,6 +29,7 @@ import mekanism.api.providers.IBlockProvider;
 import mekanism.api.sustained.ISustainedInventory;
 import mekanism.client.sound.SoundHandler;
 import mekanism.common.Mekanism;
+import mekanism.common.PacketHandler;
 import mekanism.common.base.IComparatorSupport;
 import mekanism.common.base.IEnergyWrapper;
 import mekanism.common.base.ITileComponent;
@@ -41,6 +43,7 @@ import mekanism.common.capabilities.CapabilityWrapperManager;
 import mekanism.common.capabilities.IToggleableCapability;
 import mekanism.common.capabilities.proxy.ProxyItemHandler;
 import mekanism.common.config.MekanismConfig;
+import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.frequency.Frequency;
 import mekanism.common.frequency.FrequencyManager;
 import mekanism.common.frequency.IFrequencyHandler;
@@ -49,7 +52,7 @@ import mekanism.common.integration.wrenches.Wrenches;
 import mekanism.common.inventory.slot.UpgradeInventorySlot;
 import mekanism.common.inventory.slot.holder.IInventorySlotHolder;
 import mekanism.common.network.PacketDataRequest;
-import mekanism.common.network.PacketTileEntity;
+import mekanism.common.network.PacketTileEntitySync;
 import mekanism.common.security.ISecurityTile;
 import mekanism.common.tile.component.TileComponentSecurity;
 import mekanism.common.tile.component.TileComponentUpgrade;
@@ -116,6 +119,23 @@ public abstract class TileEntityMekanism extends TileEntity implements ITileNetw
 
     public boolean doAutoSync = true;
 
+    /**
+     * The networked data we last synced to the players using this block, and which of those players have received it. Only the bytes that change get sent after that.
+     */
+    @Nullable
+    private byte[] lastSyncedData;
+    private final Set<PlayerEntity> playersSynced = new ObjectOpenHashSet<>();
+    /**
+     * Buffer the networked data gets encoded into each sync, kept while players are using this block so it does not need to be reallocated every tick.
+     */
+    @Nullable
+    private PacketBuffer syncBuffer;
+    /**
+     * Client side, the networked data built up from the syncs we have received.
+     */
+    @Nullable
+    private byte[] receivedSyncData;
+
     private List<ITileComponent> components = new ArrayList<>();
 
     protected IBlockProvider blockProvider;
@@ -431,10 +451,7 @@ public abstract class TileEntityMekanism extends TileEntity implements ITileNetw
         onUpdate();
         if (!isRemote()) {
             if (doAutoSync && !playersUsing.isEmpty()) {
-                PacketTileEntity updateMessage = new PacketTileEntity(this);
-                for (PlayerEntity player : playersUsing) {
-                    Mekanism.packetHandler.sendTo(updateMessage, (ServerPlayerEntity) player);
-                }
+                sendSync();
             }
         }
         ticker++;
@@ -455,6 +472,77 @@ public abstract class TileEntityMekanism extends TileEntity implements ITileNetw
 
     public void close(PlayerEntity player) {
         playersUsing.remove(player);
+        playersSynced.remove(player);
+        if (playersUsing.isEmpty()) {
+            lastSyncedData = null;
+            if (syncBuffer != null) {
+                syncBuffer.release();
+                syncBuffer = null;
+            }
+        }
+    }
+
+    /**
+     * Makes the next sync send the player all the networked data, for when the client no longer has the data it received before.
+     */
+    public void resetSync(PlayerEntity player) {
+        playersSynced.remove(player);
+    }
+
+    private void sendSync() {
+        if (syncBuffer == null) {
+            syncBuffer = new PacketBuffer(Unpooled.buffer());
+        } else {
+            syncBuffer.clear();
+        }
+        PacketHandler.encode(getNetworkedData().toArray(), syncBuffer);
+        if (lastSyncedData != null && playersSynced.size() == playersUsing.size() && isUnchanged(syncBuffer, lastSyncedData)) {
+            //Everyone already has this data, don't bother copying it or building packets
+            return;
+        }
+        byte[] data = new byte[syncBuffer.readableBytes()];
+        syncBuffer.readBytes(data);
+        Coord4D coord = Coord4D.get(this);
+        PacketTileEntitySync delta = lastSyncedData == null ? null : PacketTileEntitySync.delta(coord, lastSyncedData, data);
+        PacketTileEntitySync full = null;
+        for (PlayerEntity player : playersUsing) {
+            if (!playersSynced.contains(player)) {
+                //The player does not have the data the delta is based on yet
+                if (full == null) {
+                    full = PacketTileEntitySync.full(coord, data);
+                }
+                playersSynced.add(player);
+                Mekanism.packetHandler.sendTo(full, (ServerPlayerEntity) player);
+            } else if (delta != null) {
+                Mekanism.packetHandler.sendTo(delta, (ServerPlayerEntity) player);
+            }
+        }
+        lastSyncedData = data;
+    }
+
+    private static boolean isUnchanged(PacketBuffer buffer, byte[] previous) {
+        int length = buffer.readableBytes();
+        if (length != previous.length) {
+            return false;
+        }
+        int start = buffer.readerIndex();
+        for (int i = 0; i < length; i++) {
+            if (buffer.getByte(start + i) != previous[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Client side, applies a sync and handles the resulting networked data.
+     */
+    public void receiveSync(PacketTileEntitySync sync) {
+        byte[] data = sync.apply(receivedSyncData);
+        if (data != null) {
+            receivedSyncData = data;
+            handlePacketData(new PacketBuffer(Unpooled.wrappedBuffer(data)));
+        }
     }
 
     @Override
@@ -819,6 +907,9 @@ public abstract class TileEntityMekanism extends TileEntity implements ITileNetw
     @Override
     public void onContentsChanged() {
         markDirty();
+        if (world != null && !isRemote()) {
+            TransporterManager.onInventoryChanged(this);
+        }
     }
 
     @Override
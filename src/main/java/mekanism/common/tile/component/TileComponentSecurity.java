@@ -46,19 +46,17 @@ public class TileComponentSecurity implements ITileComponent {
 
     public void setFrequency(UUID owner) {
         FrequencyManager manager = Mekanism.securityFrequencies;
-        manager.deactivate(Coord4D.get(tile));
-
-        for (Frequency freq : manager.getFrequencies()) {
-            if (freq.ownerUUID.equals(owner)) {
-                frequency = (SecurityFrequency) freq;
-                frequency.activeCoords.add(Coord4D.get(tile));
-                return;
-            }
+        Frequency freq = manager.getFrequency(SecurityFrequency.SECURITY, owner);
+        if (freq != null) {
+            frequency = (SecurityFrequency) freq;
+            manager.activate(Coord4D.get(tile), frequency);
+            return;
         }
 
-        Frequency freq = new SecurityFrequency(owner).setPublic(true);
-        freq.activeCoords.add(Coord4D.get(tile));
+        manager.deactivate(Coord4D.get(tile));
+        freq = new SecurityFrequency(owner).setPublic(true);
         manager.addFrequency(freq);
+        manager.activate(Coord4D.get(tile), freq);
         frequency = (SecurityFrequency) freq;
 
         MekanismUtils.saveChunk(tile);
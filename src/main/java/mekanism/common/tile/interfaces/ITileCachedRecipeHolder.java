@@ -3,11 +3,14 @@ package mekanism.common.tile.interfaces;
 import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import mekanism.api.gas.Gas;
 import mekanism.api.recipes.MekanismRecipe;
 import mekanism.api.recipes.cache.ICachedRecipeHolder;
 import mekanism.common.recipe.MekanismRecipeType;
+import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.world.World;
+import net.minecraftforge.fluids.FluidStack;
 
 public interface ITileCachedRecipeHolder<RECIPE extends MekanismRecipe> extends ICachedRecipeHolder<RECIPE> {
 
@@ -33,4 +36,31 @@ public interface ITileCachedRecipeHolder<RECIPE extends MekanismRecipe> extends
     default RECIPE findFirstRecipe(@Nonnull Predicate<RECIPE> matchCriteria) {
         return getRecipeType().findFirst(getTileWorld(), matchCriteria);
     }
+
+    default boolean containsRecipe(@Nonnull ItemStack key, @Nonnull Predicate<RECIPE> matchCriteria) {
+        return getRecipeType().contains(getTileWorld(), key, matchCriteria);
+    }
+
+    default boolean containsRecipe(@Nonnull FluidStack key, @Nonnull Predicate<RECIPE> matchCriteria) {
+        return getRecipeType().contains(getTileWorld(), key, matchCriteria);
+    }
+
+    default boolean containsRecipe(@Nonnull Gas key, @Nonnull Predicate<RECIPE> matchCriteria) {
+        return getRecipeType().contains(getTileWorld(), key, matchCriteria);
+    }
+
+    @Nullable
+    default RECIPE findFirstRecipe(@Nonnull ItemStack key, @Nonnull Predicate<RECIPE> matchCriteria) {
+        return getRecipeType().findFirst(getTileWorld(), key, matchCriteria);
+    }
+
+    @Nullable
+    default RECIPE findFirstRecipe(@Nonnull FluidStack key, @Nonnull Predicate<RECIPE> matchCriteria) {
+        return getRecipeType().findFirst(getTileWorld(), key, matchCriteria);
+    }
+
+    @Nullable
+    default RECIPE findFirstRecipe(@Nonnull Gas key, @Nonnull Predicate<RECIPE> matchCriteria) {
+        return getRecipeType().findFirst(getTileWorld(), key, matchCriteria);
+    }
 }
\ No newline at end of file
@@ -85,6 +85,8 @@ public class TileEntityLogisticalTransporter extends TileEntityTransmitter<TileE
         super.onWorldSeparate();
         if (!isRemote()) {
             PathfinderCache.onChanged(new Coord4D(getPos(), getWorld()));
+        } else {
+            getTransmitter().clearClient();
         }
     }
 
@@ -285,6 +287,10 @@ public class TileEntityLogisticalTransporter extends TileEntityTransmitter<TileE
     protected ActionResultType onConfigure(PlayerEntity player, int part, Direction side) {
         TransporterUtils.incrementColor(getTransmitter());
         PathfinderCache.onChanged(new Coord4D(getPos(), getWorld()));
+        if (getTransmitter().hasTransmitterNetwork()) {
+            //The color of the transporter changes which stacks can pass through it
+            getTransmitter().getTransmitterNetwork().clearPathTrees();
+        }
         Mekanism.packetHandler.sendUpdatePacket(this);
         EnumColor color = getTransmitter().getColor();
         player.sendMessage(MekanismLang.LOG_FORMAT.translateColored(EnumColor.DARK_BLUE, MekanismLang.MEKANISM,
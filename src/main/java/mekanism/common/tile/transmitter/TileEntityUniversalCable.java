@@ -241,7 +241,9 @@ public class TileEntityUniversalCable extends TileEntityTransmitter<EnergyAccept
     @Override
     public void setEnergy(double energy) {
         if (getTransmitter().hasTransmitterNetwork()) {
-            getTransmitter().getTransmitterNetwork().buffer.amount = energy;
+            EnergyNetwork network = getTransmitter().getTransmitterNetwork();
+            network.buffer.amount = energy;
+            network.wakeUp();
         } else {
             buffer.amount = energy;
         }
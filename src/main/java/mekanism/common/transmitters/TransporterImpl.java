@@ -4,9 +4,9 @@ import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.function.IntConsumer;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
@@ -35,17 +35,34 @@ import net.minecraft.nbt.ListNBT;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.common.util.Constants.NBT;
 
 public class TransporterImpl extends TransmitterImpl<TileEntity, InventoryNetwork, Void> implements ILogisticalTransporter {
 
-    private Int2ObjectOpenHashMap<TransporterStack> transit = new Int2ObjectOpenHashMap<>();
+    /**
+     * How many ticks the client keeps showing a stack that is waiting at the end of its path.
+     */
+    private static final int CLIENT_STALL_TICKS = 40;
+
+    /**
+     * Ids are shared by all transporters so that stacks can keep their id as they move between transporters, which lets the client move them along without being
+     * told about every transporter they enter.
+     */
+    private static int nextId = 0;
+    /**
+     * Client side, which transporter holds each stack. The client moves stacks between transporters itself, so when the server tells one transporter about a stack,
+     * this is used to remove the copy another transporter may still have of it.
+     */
+    private static final Int2ObjectMap<TransporterImpl> clientStackHolders = new Int2ObjectOpenHashMap<>();
 
-    private int nextId = 0;
+    private Int2ObjectOpenHashMap<TransporterStack> transit = new Int2ObjectOpenHashMap<>();
 
     private EnumColor color;
 
     private Int2ObjectMap<TransporterStack> needsSync = new Int2ObjectOpenHashMap<>();
+    private IntSet deletes = new IntOpenHashSet();
+    private boolean transitChanged;
 
     public TransporterImpl(TileEntityLogisticalTransporter multiPart) {
         super(multiPart);
@@ -57,12 +74,60 @@ public class TransporterImpl extends TransmitterImpl<TileEntity, InventoryNetwor
 
     public void deleteStack(int id) {
         transit.remove(id);
+        if (world().isRemote) {
+            //The stack may still be on its way to us, remove it from whichever transporter it is in
+            TransporterImpl holder = clientStackHolders.remove(id);
+            if (holder != null) {
+                holder.transit.remove(id);
+            }
+        }
     }
 
     public void addStack(int id, TransporterStack s) {
+        if (world().isRemote) {
+            holdClient(id);
+        }
         transit.put(id, s);
     }
 
+    /**
+     * Client side, marks this transporter as the one holding the given stack, and removes the stack from the transporter that held it before.
+     */
+    private void holdClient(int id) {
+        TransporterImpl previous = clientStackHolders.put(id, this);
+        if (previous != null && previous != this) {
+            previous.transit.remove(id);
+        }
+    }
+
+    /**
+     * Client side, forgets that this transporter holds the given stack.
+     */
+    private void releaseClient(int id) {
+        if (clientStackHolders.get(id) == this) {
+            clientStackHolders.remove(id);
+        }
+    }
+
+    /**
+     * Client side, removes all stacks from this transporter, for when it is removed or unloaded.
+     */
+    public void clearClient() {
+        for (int id : transit.keySet()) {
+            releaseClient(id);
+        }
+        transit.clear();
+    }
+
+    @Override
+    public void setTransmitterNetwork(InventoryNetwork network) {
+        super.setTransmitterNetwork(network);
+        if (network != null && !transit.isEmpty() && !world().isRemote) {
+            //Make sure the network keeps moving any stacks we had before joining it
+            network.activate(this);
+        }
+    }
+
     public void writeToPacket(TileNetworkList data) {
         data.add(transit.size());
         for (Int2ObjectMap.Entry<TransporterStack> entry : transit.int2ObjectEntrySet()) {
@@ -72,12 +137,12 @@ public class TransporterImpl extends TransmitterImpl<TileEntity, InventoryNetwor
     }
 
     public void readFromPacket(PacketBuffer dataStream) {
-        transit.clear();
+        clearClient();
         int count = dataStream.readInt();
         for (int i = 0; i < count; i++) {
             int id = dataStream.readInt();
             TransporterStack s = TransporterStack.readFromPacket(dataStream);
-            transit.put(id, s);
+            addStack(id, s);
         }
     }
 
@@ -96,104 +161,206 @@ public class TransporterImpl extends TransmitterImpl<TileEntity, InventoryNetwor
 
     public void update() {
         if (world().isRemote) {
-            for (TransporterStack stack : transit.values()) {
-                stack.progress = Math.min(100, stack.progress + getTileEntity().tier.getSpeed());
-            }
+            updateClient();
         } else if (getTransmitterNetwork() != null) {
-            IntSet deletes = new IntOpenHashSet();
             getTileEntity().pullItems();
-            Coord4D coord = coord();
-            //Note: Our calls to getTileEntity are not done with a chunkMap as we don't tend to have that many tiles we
-            // are checking at once from here and given this gets called each tick, it would cause unnecessary garbage
-            // collection to occur actually causing the tick time to go up slightly.
-            for (Int2ObjectMap.Entry<TransporterStack> entry : transit.int2ObjectEntrySet()) {
-                int stackId = entry.getIntKey();
-                TransporterStack stack = entry.getValue();
-                if (!stack.initiatedPath) {
-                    if (stack.itemStack.isEmpty() || !recalculate(stackId, stack, null)) {
-                        deletes.add(stackId);
-                        continue;
+        }
+    }
+
+    /**
+     * Moves the stacks along on the client. The server only syncs stacks when they get rerouted, delivered or dropped, so when a stack reaches the end of this
+     * transporter we move it into the next transporter on its path ourselves.
+     */
+    private void updateClient() {
+        ObjectIterator<Int2ObjectMap.Entry<TransporterStack>> iterator = transit.int2ObjectEntrySet().fastIterator();
+        while (iterator.hasNext()) {
+            Int2ObjectMap.Entry<TransporterStack> entry = iterator.next();
+            TransporterStack stack = entry.getValue();
+            boolean isFinal = stack.isFinal(this);
+            if (stack.progress >= 100) {
+                if (isFinal || stack.getNext(this) == null) {
+                    //Wait for the server to tell us what happened to the stack, but don't show it forever if we never hear back
+                    if (++stack.clientStalledTicks >= CLIENT_STALL_TICKS) {
+                        iterator.remove();
+                        releaseClient(entry.getIntKey());
                     }
+                    continue;
                 }
+                iterator.remove();
+                TileEntityLogisticalTransporter next = MekanismUtils.getTileEntity(TileEntityLogisticalTransporter.class, world(), stack.getNext(this).getPos());
+                if (next != null) {
+                    //Note: The stack does not move any further this tick in this transporter, the next transporter moves it along if it has not been ticked yet
+                    stack.progress -= 100;
+                    stack.moveToNextClient(this);
+                    next.getTransmitter().enterClient(entry.getIntKey(), stack);
+                } else {
+                    releaseClient(entry.getIntKey());
+                }
+                continue;
+            }
+            stack.progress += getTileEntity().tier.getSpeed();
+            if (isFinal) {
+                stack.progress = Math.min(100, stack.progress);
+            }
+        }
+    }
 
-                stack.progress += getTileEntity().tier.getSpeed();
-                if (stack.progress >= 100) {
-                    Coord4D prevSet = null;
-                    if (stack.hasPath()) {
-                        int currentIndex = stack.getPath().indexOf(coord);
-                        if (currentIndex == 0) { //Necessary for transition reasons, not sure why
-                            deletes.add(stackId);
-                            continue;
-                        }
+    private void enterClient(int id, TransporterStack stack) {
+        holdClient(id);
+        transit.put(id, stack);
+    }
 
-                        Coord4D next = stack.getPath().get(currentIndex - 1);
-                        //TODO: Can next ever even be null? We moved this check out given theoretically both branches could maybe have it be null
-                        // if it can even be null. I did not bother looking into if the null check that already existed was valid or unneeded
-                        if (next != null) {
-                            if (!stack.isFinal(this)) {
-                                TileEntity tile = MekanismUtils.getTileEntity(world(), next.getPos());
-                                if (stack.canInsertToTransporter(tile, stack.getSide(this), containingTile)) {
-                                    CapabilityUtils.getCapability(tile, Capabilities.LOGISTICAL_TRANSPORTER_CAPABILITY, null).ifPresent(nextTile ->
-                                          nextTile.entityEntering(stack, stack.progress % 100));
-                                    deletes.add(stackId);
+    /**
+     * Moves the stacks in this transporter along. This is called by the network once per tick for each transporter that has stacks in transit, stacks that reach the
+     * next transporter get handed off to the network so that they enter it once all transporters have been ticked.
+     */
+    public void tickTransit(InventoryNetwork network) {
+        //Note: Our calls to getTileEntity are not done with a chunkMap as we don't tend to have that many tiles we
+        // are checking at once from here and given this gets called each tick, it would cause unnecessary garbage
+        // collection to occur actually causing the tick time to go up slightly.
+        ObjectIterator<Int2ObjectMap.Entry<TransporterStack>> iterator = transit.int2ObjectEntrySet().fastIterator();
+        while (iterator.hasNext()) {
+            Int2ObjectMap.Entry<TransporterStack> entry = iterator.next();
+            int stackId = entry.getIntKey();
+            TransporterStack stack = entry.getValue();
+            if (!stack.initiatedPath) {
+                if (stack.itemStack.isEmpty() || !recalculate(stackId, stack, null)) {
+                    delete(iterator, stackId);
+                    continue;
+                }
+            }
+
+            stack.progress += getTileEntity().tier.getSpeed();
+            if (stack.progress >= 100) {
+                Coord4D prevSet = null;
+                if (stack.hasPath()) {
+                    int currentIndex = stack.getPathIndex(this);
+                    if (currentIndex == 0) { //Necessary for transition reasons, not sure why
+                        delete(iterator, stackId);
+                        continue;
+                    }
+
+                    Coord4D next = stack.getPath().get(currentIndex - 1);
+                    //TODO: Can next ever even be null? We moved this check out given theoretically both branches could maybe have it be null
+                    // if it can even be null. I did not bother looking into if the null check that already existed was valid or unneeded
+                    if (next != null) {
+                        if (!stack.isFinal(this)) {
+                            ILogisticalTransporter nextTransporter = getInsertableTransporter(network, stack, next);
+                            if (nextTransporter != null) {
+                                network.handOff(nextTransporter, stackId, stack, stack.progress % 100);
+                                if (nextTransporter instanceof TransporterImpl) {
+                                    //The client moves the stack into the next transporter itself, so we don't have to tell it
+                                    iterator.remove();
+                                    transitChanged = true;
+                                } else {
+                                    delete(iterator, stackId);
+                                }
+                                continue;
+                            }
+                            prevSet = next;
+                        } else if (stack.getPathType() != Path.NONE) {
+                            TileEntity tile = MekanismUtils.getTileEntity(world(), next.getPos());
+                            if (tile != null) {
+                                TransitResponse response = InventoryUtils.putStackInInventory(tile, TransitRequest.getFromTransport(stack), stack.getSide(this),
+                                      stack.getPathType() == Path.HOME);
+                                // Nothing was rejected; remove the stack from the prediction tracker and
+                                // schedule this stack for deletion. Continue the loop thereafter
+                                ItemStack rejected = response.getRejected(stack.itemStack);
+                                if (rejected.isEmpty()) {
+                                    TransporterManager.remove(stack);
+                                    delete(iterator, stackId);
                                     continue;
                                 }
+                                // Some portion of the stack got rejected; save the remainder and
+                                // let the recalculate below sort out what to do next
+                                stack.itemStack = rejected;
                                 prevSet = next;
-                            } else if (stack.getPathType() != Path.NONE) {
-                                TileEntity tile = MekanismUtils.getTileEntity(world(), next.getPos());
-                                if (tile != null) {
-                                    TransitResponse response = InventoryUtils.putStackInInventory(tile, TransitRequest.getFromTransport(stack), stack.getSide(this),
-                                          stack.getPathType() == Path.HOME);
-                                    // Nothing was rejected; remove the stack from the prediction tracker and
-                                    // schedule this stack for deletion. Continue the loop thereafter
-                                    ItemStack rejected = response.getRejected(stack.itemStack);
-                                    if (rejected.isEmpty()) {
-                                        TransporterManager.remove(stack);
-                                        deletes.add(stackId);
-                                        continue;
-                                    }
-                                    // Some portion of the stack got rejected; save the remainder and
-                                    // let the recalculate below sort out what to do next
-                                    stack.itemStack = rejected;
-                                    prevSet = next;
-                                }
                             }
                         }
                     }
-                    if (!recalculate(stackId, stack, prevSet)) {
-                        deletes.add(stackId);
-                    } else if (prevSet != null) {
-                        stack.progress = 0;
-                    } else {
-                        stack.progress = 50;
-                    }
-                } else if (stack.progress == 50) {
-                    boolean tryRecalculate;
-                    if (stack.isFinal(this)) {
-                        tryRecalculate = checkPath(stack, Path.DEST, false) || checkPath(stack, Path.HOME, true) || stack.getPathType() == Path.NONE;
-                    } else {
-                        tryRecalculate = !stack.canInsertToTransporter(MekanismUtils.getTileEntity(world(), stack.getNext(this).getPos()), stack.getSide(this), containingTile);
-                    }
-                    if (tryRecalculate && !recalculate(stackId, stack, null)) {
-                        deletes.add(stackId);
-                    }
+                }
+                if (!recalculate(stackId, stack, prevSet)) {
+                    delete(iterator, stackId);
+                } else if (prevSet != null) {
+                    stack.progress = 0;
+                } else {
+                    stack.progress = 50;
+                }
+            } else if (stack.progress == 50) {
+                boolean tryRecalculate;
+                if (stack.isFinal(this)) {
+                    tryRecalculate = checkPath(stack, Path.DEST, false) || checkPath(stack, Path.HOME, true) || stack.getPathType() == Path.NONE;
+                } else {
+                    Coord4D next = stack.getNext(this);
+                    tryRecalculate = next == null || getInsertableTransporter(network, stack, next) == null;
+                }
+                if (tryRecalculate && !recalculate(stackId, stack, null)) {
+                    delete(iterator, stackId);
                 }
             }
+        }
+    }
 
-            if (!deletes.isEmpty() || !needsSync.isEmpty()) {
-                PacketTileEntity msg = new PacketTileEntity(coord, getTileEntity().makeBatchPacket(needsSync, deletes));
-                // Now remove any entries from transit that have been deleted
-                deletes.forEach((IntConsumer) (id -> transit.remove(id)));
-
-                // Clear the pending sync packets
-                needsSync.clear();
+    private void delete(ObjectIterator<Int2ObjectMap.Entry<TransporterStack>> iterator, int stackId) {
+        iterator.remove();
+        deletes.add(stackId);
+    }
 
-                // Finally, notify clients and mark chunk for save
-                //TODO: Check
-                Mekanism.packetHandler.sendToAllTracking(msg, world(), coord.getPos());
-                MekanismUtils.saveChunk(getTileEntity());
+    /**
+     * Gets the transporter at the given position if the stack is able to move into it.
+     */
+    @Nullable
+    private ILogisticalTransporter getInsertableTransporter(InventoryNetwork network, TransporterStack stack, Coord4D coord) {
+        Direction side = stack.getSide(this);
+        TransporterImpl transporter = network.getTransporter(coord);
+        if (transporter == null) {
+            //Not part of our network, look it up in the world instead
+            TileEntity tile = MekanismUtils.getTileEntity(world(), coord.getPos());
+            if (stack.canInsertToTransporter(tile, side, containingTile)) {
+                return MekanismUtils.toOptional(CapabilityUtils.getCapability(tile, Capabilities.LOGISTICAL_TRANSPORTER_CAPABILITY, null)).orElse(null);
             }
+            return null;
+        }
+        return stack.canInsertToTransporter(transporter, side.getOpposite(), containingTile) ? transporter : null;
+    }
+
+    /**
+     * Moves a stack that reached the end of another transporter into this one, keeping its id. Unlike {@link #entityEntering(TransporterStack, int)} the stack is
+     * normally not synced to the client, as the client moves it along the path it already knows about. Stacks coming from a different chunk are synced, as players
+     * only tracking our chunk have not seen them yet.
+     */
+    public void acceptStack(int id, TransporterStack stack, int progress) {
+        stack.progress = progress;
+        transit.put(id, stack);
+        transitChanged = true;
+        Coord4D prev = stack.getPrev(this);
+        BlockPos pos = getTileEntity().getPos();
+        if (prev == null || prev.x >> 4 != pos.getX() >> 4 || prev.z >> 4 != pos.getZ() >> 4) {
+            needsSync.put(id, stack);
+        }
+        if (getTransmitterNetwork() != null) {
+            getTransmitterNetwork().activate(this);
+        }
+    }
+
+    /**
+     * Sends any stacks that changed or got removed since the last time this was called to the clients.
+     *
+     * @return True if anything changed and the chunk this transporter is in needs to be saved.
+     */
+    public boolean sendTransitChanges() {
+        boolean changed = transitChanged;
+        transitChanged = false;
+        if (deletes.isEmpty() && needsSync.isEmpty()) {
+            return changed;
         }
+        Coord4D coord = coord();
+        PacketTileEntity msg = new PacketTileEntity(coord, getTileEntity().makeBatchPacket(needsSync, deletes));
+        deletes.clear();
+        needsSync.clear();
+        //TODO: Check
+        Mekanism.packetHandler.sendToAllTracking(msg, world(), coord.getPos());
+        return true;
     }
 
     private boolean checkPath(TransporterStack stack, Path dest, boolean home) {
@@ -246,6 +413,9 @@ public class TransporterImpl extends TransmitterImpl<TileEntity, InventoryNetwor
             if (doEmit) {
                 int stackId = nextId++;
                 transit.put(stackId, stack);
+                if (getTransmitterNetwork() != null) {
+                    getTransmitterNetwork().activate(this);
+                }
                 Coord4D coord = coord();
                 TileEntityLogisticalTransporter tile = getTileEntity();
                 //TODO: Check
@@ -283,11 +453,12 @@ public class TransporterImpl extends TransmitterImpl<TileEntity, InventoryNetwor
         stack.progress = progress;
         transit.put(stackId, stack);
         needsSync.put(stackId, stack);
+        if (getTransmitterNetwork() != null) {
+            getTransmitterNetwork().activate(this);
+        }
 
-        // N.B. We are not marking the chunk as dirty here! I don't believe it's needed, since
-        // the next tick will generate the necessary save and if we crash before the next tick,
-        // it's unlikely the data will be save anyways (since chunks aren't saved until the end of
-        // a tick).
+        // N.B. We are not marking the chunk as dirty here! The network marks the chunks of all the
+        // transporters that changed once it is done moving stacks along for this tick.
     }
 
     @Override
@@ -2,9 +2,14 @@ package mekanism.common.transmitters.grid;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectMaps;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.EnumSet;
+import java.util.Map;
 import java.util.Set;
 import javax.annotation.Nonnull;
 import mekanism.api.Coord4D;
@@ -19,9 +24,11 @@ import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.text.EnergyDisplay;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.world.chunk.IChunk;
 import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.eventbus.api.Event;
 
 public class EnergyNetwork extends DynamicNetwork<EnergyAcceptorWrapper, EnergyNetwork, EnergyStack> {
@@ -31,6 +38,19 @@ public class EnergyNetwork extends DynamicNetwork<EnergyAcceptorWrapper, EnergyN
     private double lastPowerScale = 0;
     private double joulesTransmitted = 0;
     private double jouleBufferLastTick = 0;
+    /**
+     * Acceptors that have been resolved to their tile and capabilities, so that we do not have to look them up every tick.
+     */
+    private final Object2ObjectMap<Coord4D, CachedAcceptor> cachedAcceptors = new Object2ObjectOpenHashMap<>();
+    /**
+     * All acceptor positions indexed by the chunk they are in, so that we can drop or refresh them when the chunk unloads or loads.
+     */
+    private final Long2ObjectMap<Set<Coord4D>> acceptorChunks = new Long2ObjectOpenHashMap<>();
+    /**
+     * Acceptor positions that need to be looked up again before we next emit.
+     */
+    private final Set<Coord4D> dirtyAcceptors = new ObjectOpenHashSet<>();
+    private final Set<EnergyAcceptorTarget> emitTargets = new ObjectOpenHashSet<>();
 
     public EnergyNetwork() {
     }
@@ -55,6 +75,8 @@ public class EnergyNetwork extends DynamicNetwork<EnergyAcceptorWrapper, EnergyN
         }
         buffer.amount += net.buffer.amount;
         super.adoptTransmittersAndAcceptorsFrom(net);
+        //Look up all the acceptors we just gained the next time we emit
+        dirtyAcceptors.addAll(net.possibleAcceptors);
     }
 
     public static double round(double d) {
@@ -92,42 +114,127 @@ public class EnergyNetwork extends DynamicNetwork<EnergyAcceptorWrapper, EnergyN
     }
 
     private double tickEmit(double energyToSend) {
-        Set<EnergyAcceptorTarget> targets = new ObjectOpenHashSet<>();
+        if (!dirtyAcceptors.isEmpty()) {
+            refreshDirtyAcceptors();
+        }
+        emitTargets.clear();
         int totalHandlers = 0;
+        //Use a fast iterable so that we don't create a new entry object for every acceptor
+        for (Object2ObjectMap.Entry<Coord4D, CachedAcceptor> entry : Object2ObjectMaps.fastIterable(cachedAcceptors)) {
+            CachedAcceptor cached = entry.getValue();
+            if (cached.invalidated || cached.tile.isRemoved()) {
+                //The tile or one of its capabilities went away, look it up again next time we emit
+                dirtyAcceptors.add(entry.getKey());
+                continue;
+            }
+            EnergyAcceptorTarget target = cached.target;
+            target.reset();
+            for (Direction side : cached.acceptors.keySet()) {
+                EnergyAcceptorWrapper acceptor = cached.acceptors.get(side);
+                if (acceptor.canReceiveEnergy(side) && acceptor.needsEnergy(side)) {
+                    target.addHandler(side, acceptor);
+                }
+            }
+            int curHandlers = target.getHandlers().size();
+            if (curHandlers > 0) {
+                emitTargets.add(target);
+                totalHandlers += curHandlers;
+            }
+        }
+        return EmitUtils.sendToAcceptors(emitTargets, totalHandlers, energyToSend);
+    }
+
+    /**
+     * Looks up the tiles and acceptor capabilities for any acceptor positions that have changed since we last emitted, and updates the acceptor cache.
+     */
+    private void refreshDirtyAcceptors() {
         Long2ObjectMap<IChunk> chunkMap = new Long2ObjectOpenHashMap<>();
-        for (Coord4D coord : possibleAcceptors) {
+        for (Coord4D coord : dirtyAcceptors) {
+            CachedAcceptor cached = cachedAcceptors.remove(coord);
+            long chunkKey = ChunkPos.asLong(coord.x >> 4, coord.z >> 4);
             EnumSet<Direction> sides = acceptorDirections.get(coord);
-            if (sides == null || sides.isEmpty()) {
+            if (sides == null || sides.isEmpty() || !possibleAcceptors.contains(coord)) {
+                Set<Coord4D> chunkAcceptors = acceptorChunks.get(chunkKey);
+                if (chunkAcceptors != null && chunkAcceptors.remove(coord) && chunkAcceptors.isEmpty()) {
+                    acceptorChunks.remove(chunkKey);
+                }
                 continue;
             }
+            //Keep track of the position even if it is not currently loaded so that we can look it up again when the chunk loads
+            acceptorChunks.computeIfAbsent(chunkKey, key -> new ObjectOpenHashSet<>()).add(coord);
             TileEntity tile = MekanismUtils.getTileEntity(getWorld(), chunkMap, coord);
             if (tile == null) {
                 continue;
             }
-            EnergyAcceptorTarget target = new EnergyAcceptorTarget();
+            if (cached == null || cached.tile != tile) {
+                cached = new CachedAcceptor(tile);
+            } else {
+                //Reuse the entry for the same tile so that we do not register another listener on any capabilities it caches
+                cached.reset();
+            }
             for (Direction side : sides) {
-                EnergyAcceptorWrapper acceptor = EnergyAcceptorWrapper.get(tile, side);
-                if (acceptor != null && acceptor.canReceiveEnergy(side) && acceptor.needsEnergy(side)) {
-                    target.addHandler(side, acceptor);
+                CachedAcceptor target = cached;
+                EnergyAcceptorWrapper acceptor = EnergyAcceptorWrapper.get(tile, side, cap -> target.listenTo(side, cap));
+                if (acceptor != null) {
+                    cached.acceptors.put(side, acceptor);
                 }
             }
-            int curHandlers = target.getHandlers().size();
-            if (curHandlers > 0) {
-                targets.add(target);
-                totalHandlers += curHandlers;
+            //Keep the entry even if it has no acceptors right now, so that we remember which capabilities of the tile we are already listening to
+            cachedAcceptors.put(coord, cached);
+        }
+        dirtyAcceptors.clear();
+    }
+
+    @Override
+    protected void updateAcceptor(Coord4D acceptorCoord, Direction side, boolean hasAcceptor) {
+        super.updateAcceptor(acceptorCoord, side, hasAcceptor);
+        dirtyAcceptors.add(acceptorCoord);
+    }
+
+    @Override
+    public void onChunkUnloaded(long chunkKey) {
+        Set<Coord4D> chunkAcceptors = acceptorChunks.get(chunkKey);
+        if (chunkAcceptors != null) {
+            for (Coord4D coord : chunkAcceptors) {
+                cachedAcceptors.remove(coord);
             }
         }
-        return EmitUtils.sendToAcceptors(targets, totalHandlers, energyToSend);
+    }
+
+    @Override
+    public void onChunkLoaded(long chunkKey) {
+        Set<Coord4D> chunkAcceptors = acceptorChunks.get(chunkKey);
+        if (chunkAcceptors != null) {
+            dirtyAcceptors.addAll(chunkAcceptors);
+        }
+    }
+
+    @Override
+    public void deregister() {
+        super.deregister();
+        cachedAcceptors.clear();
+        acceptorChunks.clear();
+        dirtyAcceptors.clear();
+        emitTargets.clear();
     }
 
     public double emit(double energyToSend, boolean doEmit) {
         double toUse = Math.min(getEnergyNeeded(), energyToSend);
         if (doEmit) {
             buffer.amount += toUse;
+            if (toUse > 0) {
+                wakeUp();
+            }
         }
         return energyToSend - toUse;
     }
 
+    @Override
+    public boolean canSleep() {
+        //Keep ticking until the buffer is empty and the power scale has dropped to zero so that the clients get the final update
+        return super.canSleep() && buffer.amount == 0 && jouleBufferLastTick == 0 && lastPowerScale == 0;
+    }
+
     @Override
     public String toString() {
         return "[EnergyNetwork] " + transmitters.size() + " transmitters, " + possibleAcceptors.size() + " acceptors.";
@@ -188,6 +295,37 @@ public class EnergyNetwork extends DynamicNetwork<EnergyAcceptorWrapper, EnergyN
         return MekanismLang.NETWORK_DESCRIPTION.translate(MekanismLang.ENERGY_NETWORK, transmitters.size(), possibleAcceptors.size());
     }
 
+    /**
+     * Invalidation of the capabilities is only best-effort: a lot of tiles, including our own, return a new capability each time it is queried and never invalidate it.
+     * For those we rely on the tile being removed, or on a neighbor change marking the acceptor dirty.
+     */
+    private static class CachedAcceptor {
+
+        private final Map<Direction, EnergyAcceptorWrapper> acceptors = new EnumMap<>(Direction.class);
+        /**
+         * The capability we have registered an invalidation listener on for each side, so that tiles which cache their capabilities only ever get one listener from us.
+         */
+        private final Map<Direction, LazyOptional<?>> listening = new EnumMap<>(Direction.class);
+        private final EnergyAcceptorTarget target = new EnergyAcceptorTarget();
+        private final TileEntity tile;
+        private boolean invalidated;
+
+        private CachedAcceptor(TileEntity tile) {
+            this.tile = tile;
+        }
+
+        private void listenTo(Direction side, LazyOptional<?> capability) {
+            if (listening.put(side, capability) != capability) {
+                capability.addListener(cap -> invalidated = true);
+            }
+        }
+
+        private void reset() {
+            acceptors.clear();
+            invalidated = false;
+        }
+    }
+
     public static class EnergyTransferEvent extends Event {
 
         public final EnergyNetwork energyNetwork;
@@ -149,10 +149,19 @@ public class FluidNetwork extends DynamicNetwork<IFluidHandler, FluidNetwork, Fl
             } else {
                 buffer.grow(toUse);
             }
+            if (toUse > 0) {
+                wakeUp();
+            }
         }
         return toUse;
     }
 
+    @Override
+    public boolean canSleep() {
+        //Keep ticking until the buffer is empty and the transfer state has settled so that the clients get the final update
+        return super.canSleep() && buffer.isEmpty() && prevStored == 0 && !didTransfer && !prevTransfer;
+    }
+
     @Override
     public void onUpdate() {
         super.onUpdate();
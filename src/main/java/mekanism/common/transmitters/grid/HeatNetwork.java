@@ -64,6 +64,12 @@ public class HeatNetwork extends DynamicNetwork<IHeatTransfer, HeatNetwork, Void
         //The capacity is always zero so no point in doing calculations.
     }
 
+    @Override
+    public boolean canSleep() {
+        //Heat is simulated every tick regardless of if anything changed
+        return false;
+    }
+
     @Override
     public void onUpdate() {
         super.onUpdate();
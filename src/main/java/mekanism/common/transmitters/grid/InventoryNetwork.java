@@ -1,27 +1,71 @@
 package mekanism.common.transmitters.grid;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
+import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
+import mekanism.api.text.EnumColor;
 import mekanism.api.transmitters.DynamicNetwork;
 import mekanism.api.transmitters.IGridTransmitter;
 import mekanism.common.MekanismLang;
+import mekanism.common.base.ILogisticalTransporter;
 import mekanism.common.content.transporter.TransitRequest;
 import mekanism.common.content.transporter.TransitRequest.TransitResponse;
 import mekanism.common.content.transporter.TransporterManager;
+import mekanism.common.content.transporter.TransporterPathfinder.PathTree;
 import mekanism.common.content.transporter.TransporterStack;
+import mekanism.common.transmitters.TransporterImpl;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.text.ITextComponent;
+import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.chunk.IChunk;
 
 public class InventoryNetwork extends DynamicNetwork<TileEntity, InventoryNetwork, Void> {
 
+    /**
+     * How many ticks a path tree is kept after it was last used. Each sending transporter and color combination needs its own tree, so this keeps the cache sized to
+     * the combinations that are actually in use rather than to a fixed count.
+     */
+    private static final long PATH_TREE_TIMEOUT = 1_200;
+
+    /**
+     * Path trees from transporters in this network, ordered from least to most recently used. These only depend on the layout of the network and the colors of the
+     * transporters in it, so they get cleared whenever either of those changes.
+     */
+    private final Object2ObjectLinkedOpenHashMap<PathTreeKey, PathTree> pathTrees = new Object2ObjectLinkedOpenHashMap<>();
+    /**
+     * Transporters in this network that have stacks in transit. Only these get visited when moving stacks along, so long idle stretches of the network cost nothing.
+     */
+    private final Set<TransporterImpl> activeTransporters = new ObjectOpenHashSet<>();
+    private final List<TransporterImpl> transportersToTick = new ObjectArrayList<>();
+    /**
+     * Stacks that reached the end of a transporter this tick, along with the transporter they are moving into. They only enter the next transporter once every
+     * transporter has been ticked so that no stack moves more than once per tick.
+     */
+    private final List<ILogisticalTransporter> handOffTargets = new ObjectArrayList<>();
+    private final List<TransporterStack> handOffStacks = new ObjectArrayList<>();
+    private final IntList handOffIds = new IntArrayList();
+    private final IntList handOffProgress = new IntArrayList();
+    private final LongSet dirtyChunks = new LongOpenHashSet();
+
     public InventoryNetwork() {
     }
 
@@ -29,6 +73,7 @@ public class InventoryNetwork extends DynamicNetwork<TileEntity, InventoryNetwor
         for (InventoryNetwork net : networks) {
             if (net != null) {
                 adoptTransmittersAndAcceptorsFrom(net);
+                activeTransporters.addAll(net.activeTransporters);
                 net.deregister();
             }
         }
@@ -66,14 +111,150 @@ public class InventoryNetwork extends DynamicNetwork<TileEntity, InventoryNetwor
         return toReturn;
     }
 
+    /**
+     * Gets the path tree for stacks of the given color leaving from the given transporter, creating it if we don't have it cached.
+     */
+    public PathTree getPathTree(Coord4D start, @Nullable EnumColor color) {
+        long time = getWorld().getGameTime();
+        //Drop the trees that have not been used in a while, they are ordered from least to most recently used so we can stop at the first one that is still in use
+        while (!pathTrees.isEmpty() && time - pathTrees.get(pathTrees.firstKey()).getLastUsed() > PATH_TREE_TIMEOUT) {
+            pathTrees.removeFirst();
+        }
+        PathTreeKey key = new PathTreeKey(start, color);
+        PathTree tree = pathTrees.getAndMoveToLast(key);
+        if (tree == null) {
+            tree = new PathTree(this, start, color);
+            pathTrees.putAndMoveToLast(key, tree);
+        }
+        tree.setLastUsed(time);
+        return tree;
+    }
+
+    /**
+     * Clears all the path trees, should be called when a transporter in this network changes in a way that affects which paths stacks can take.
+     */
+    public void clearPathTrees() {
+        pathTrees.clear();
+    }
+
+    @Override
+    public void commit() {
+        if (!transmittersToAdd.isEmpty() || !changedAcceptors.isEmpty()) {
+            clearPathTrees();
+        }
+        super.commit();
+    }
+
+    @Override
+    public void removeInvalidTransmitters(Collection<IGridTransmitter<TileEntity, InventoryNetwork, Void>> removed) {
+        clearPathTrees();
+        super.removeInvalidTransmitters(removed);
+    }
+
+    @Override
+    public void deregister() {
+        super.deregister();
+        clearPathTrees();
+    }
+
+    /**
+     * @return The transporter in this network at the given position, or null if there is none.
+     */
+    @Nullable
+    public TransporterImpl getTransporter(Coord4D coord) {
+        IGridTransmitter<TileEntity, InventoryNetwork, Void> transmitter = getTransmitter(coord);
+        return transmitter instanceof TransporterImpl ? (TransporterImpl) transmitter : null;
+    }
+
+    /**
+     * Marks the given transporter as having stacks in transit, so that they get moved along each tick.
+     */
+    public void activate(TransporterImpl transporter) {
+        if (activeTransporters.add(transporter)) {
+            wakeUp();
+        }
+    }
+
+    /**
+     * Queues a stack to enter the given transporter once all the transporters in this network have been ticked.
+     */
+    public void handOff(ILogisticalTransporter transporter, int stackId, TransporterStack stack, int progress) {
+        handOffTargets.add(transporter);
+        handOffStacks.add(stack);
+        handOffIds.add(stackId);
+        handOffProgress.add(progress);
+    }
+
     @Override
     public void onUpdate() {
         super.onUpdate();
         if (!isRemote()) {
-            //Future!
+            //Item networks have no network wide state to send to the client, so there is nothing to do for the update
+            needsUpdate = false;
+            if (!activeTransporters.isEmpty()) {
+                tickTransit();
+            }
         }
     }
 
+    /**
+     * Moves all the stacks in this network along, then sends the changes of each transporter to the clients.
+     */
+    private void tickTransit() {
+        //Copy the transporters as stacks entering transporters can activate more of them
+        transportersToTick.addAll(activeTransporters);
+        for (TransporterImpl transporter : transportersToTick) {
+            if (transporter.getTransmitterNetwork() == this && !transporter.getTileEntity().isRemoved()) {
+                transporter.tickTransit(this);
+            }
+        }
+        transportersToTick.clear();
+        for (int i = 0, size = handOffTargets.size(); i < size; i++) {
+            ILogisticalTransporter target = handOffTargets.get(i);
+            if (target instanceof TransporterImpl) {
+                ((TransporterImpl) target).acceptStack(handOffIds.getInt(i), handOffStacks.get(i), handOffProgress.getInt(i));
+            } else {
+                target.entityEntering(handOffStacks.get(i), handOffProgress.getInt(i));
+            }
+        }
+        handOffTargets.clear();
+        handOffStacks.clear();
+        handOffIds.clear();
+        handOffProgress.clear();
+        Iterator<TransporterImpl> iterator = activeTransporters.iterator();
+        while (iterator.hasNext()) {
+            TransporterImpl transporter = iterator.next();
+            if (transporter.getTransmitterNetwork() != this || transporter.getTileEntity().isRemoved()) {
+                iterator.remove();
+                continue;
+            }
+            if (transporter.sendTransitChanges()) {
+                BlockPos pos = transporter.getTileEntity().getPos();
+                dirtyChunks.add(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+            }
+            if (transporter.getTransit().isEmpty()) {
+                iterator.remove();
+            }
+        }
+        if (!dirtyChunks.isEmpty()) {
+            //Mark each chunk that had stacks move through it for saving once, rather than once for each transporter
+            LongIterator chunkIterator = dirtyChunks.iterator();
+            while (chunkIterator.hasNext()) {
+                long chunkKey = chunkIterator.nextLong();
+                Chunk chunk = getWorld().getChunkProvider().getChunk(ChunkPos.getX(chunkKey), ChunkPos.getZ(chunkKey), false);
+                if (chunk != null) {
+                    chunk.markDirty();
+                }
+            }
+            dirtyChunks.clear();
+        }
+    }
+
+    @Override
+    public boolean canSleep() {
+        return super.canSleep() && activeTransporters.isEmpty();
+    }
+
     @Override
     public void absorbBuffer(IGridTransmitter<TileEntity, InventoryNetwork, Void> transmitter) {
     }
@@ -136,4 +317,25 @@ public class InventoryNetwork extends DynamicNetwork<TileEntity, InventoryNetwor
             return sides;
         }
     }
-}
\ No newline at end of file
+
+    private static class PathTreeKey {
+
+        private final Coord4D start;
+        private final EnumColor color;
+
+        private PathTreeKey(Coord4D start, EnumColor color) {
+            this.start = start;
+            this.color = color;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * start.hashCode() + Objects.hashCode(color);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof PathTreeKey && ((PathTreeKey) obj).start.equals(start) && ((PathTreeKey) obj).color == color;
+        }
+    }
+}
@@ -2,11 +2,10 @@ package mekanism.common.util;
 
 import java.util.Set;
 import java.util.function.BiConsumer;
-import mekanism.common.base.SplitInfo;
-import mekanism.common.base.SplitInfo.DoubleSplitInfo;
-import mekanism.common.base.SplitInfo.IntegerSplitInfo;
+import mekanism.common.base.target.DoubleSplitter;
 import mekanism.common.base.target.EnergyAcceptorTarget;
-import mekanism.common.base.target.Target;
+import mekanism.common.base.target.IntegerSplitter;
+import mekanism.common.base.target.IntegerTarget;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
@@ -14,44 +13,10 @@ import net.minecraft.world.World;
 
 public class EmitUtils {
 
-    /**
-     * @param <HANDLER>        The handler of our target.
-     * @param <TYPE>           The type of the number
-     * @param <EXTRA>          Any extra information we may need.
-     * @param <TARGET>         The emitter target.
-     * @param availableTargets The targets to distribute toSend fairly among.
-     * @param totalTargets     The total number of targets. Note: this number is bigger than availableTargets.size if any targets have more than one acceptor.
-     * @param splitInfo        Information containing the split.
-     * @param toSend           Any extra information such as gas stack or fluid stack.
-     *
-     * @return The amount that actually got sent.
-     */
-    private static <HANDLER, TYPE extends Number & Comparable<TYPE>, EXTRA, TARGET extends Target<HANDLER, TYPE, EXTRA>> TYPE sendToAcceptors(
-          Set<TARGET> availableTargets, int totalTargets, SplitInfo<TYPE> splitInfo, EXTRA toSend) {
-        if (availableTargets.isEmpty() || totalTargets == 0) {
-            return splitInfo.getTotalSent();
-        }
-
-        //Simulate addition, sending when the requested amount is less than the amountPer
-        // splitInfo gets adjusted to account for how much is actually sent
-        availableTargets.forEach(target -> target.sendPossible(toSend, splitInfo));
-
-        //Only run this if we changed the amountPer from when we first/last ran things
-        while (splitInfo.amountPerChanged) {
-            splitInfo.amountPerChanged = false;
-            //splitInfo gets adjusted to account for how much is actually sent,
-            // and if amountPer got changed again and we need to rerun this
-            availableTargets.forEach(target -> target.shiftNeeded(splitInfo));
-        }
-
-        //Evenly distribute the remaining amount we have to give between all targets and handlers
-        // splitInfo gets adjusted to account for how much is actually sent
-        availableTargets.forEach(target -> target.sendRemainingSplit(splitInfo));
-        return splitInfo.getTotalSent();
-    }
+    private static final IntegerSplitter INTEGER_SPLITTER = new IntegerSplitter();
+    private static final DoubleSplitter DOUBLE_SPLITTER = new DoubleSplitter();
 
     /**
-     * @param <HANDLER>        The handler of our target.
      * @param <EXTRA>          Any extra information we may need
      * @param <TARGET>         The emitter target
      * @param availableTargets The targets to distribute toSend fairly among.
@@ -61,8 +26,13 @@ public class EmitUtils {
      *
      * @return The amount that actually got sent.
      */
-    public static <HANDLER, EXTRA, TARGET extends Target<HANDLER, Integer, EXTRA>> int sendToAcceptors(Set<TARGET> availableTargets, int totalTargets, int amountToSplit, EXTRA toSend) {
-        return sendToAcceptors(availableTargets, totalTargets, new IntegerSplitInfo(amountToSplit, totalTargets), toSend);
+    public static <EXTRA, TARGET extends IntegerTarget<?, EXTRA>> int sendToAcceptors(Set<TARGET> availableTargets, int totalTargets, int amountToSplit, EXTRA toSend) {
+        if (availableTargets.isEmpty() || totalTargets == 0) {
+            return 0;
+        }
+        //If a handler emits while we are sending to it, give the nested send its own splitter
+        IntegerSplitter splitter = INTEGER_SPLITTER.isInUse() ? new IntegerSplitter() : INTEGER_SPLITTER;
+        return splitter.split(availableTargets, totalTargets, amountToSplit, toSend);
     }
 
     /**
@@ -73,7 +43,11 @@ public class EmitUtils {
      * @return The amount that actually got sent
      */
     public static double sendToAcceptors(Set<EnergyAcceptorTarget> availableTargets, int totalTargets, double amountToSplit) {
-        return sendToAcceptors(availableTargets, totalTargets, new DoubleSplitInfo(amountToSplit, totalTargets), amountToSplit);
+        if (availableTargets.isEmpty() || totalTargets == 0) {
+            return 0;
+        }
+        DoubleSplitter splitter = DOUBLE_SPLITTER.isInUse() ? new DoubleSplitter() : DOUBLE_SPLITTER;
+        return splitter.split(availableTargets, totalTargets, amountToSplit, amountToSplit);
     }
 
     /**
@@ -0,0 +1,73 @@
+package mekanism.common.world;
+
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import javax.annotation.Nullable;
+import net.minecraft.util.math.ChunkPos;
+
+/**
+ * Chunks of a single dimension that are waiting to have Mekanism's ores regenerated. Chunks get added from the chunk loading thread while they get polled from
+ * the server thread, so all access is synchronized.
+ */
+public class RetrogenQueue {
+
+    private final LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+    private final LongSet queued = new LongOpenHashSet();
+    private long generated;
+    private long startTime;
+
+    /**
+     * @return True if the chunk was not already queued.
+     */
+    public synchronized boolean add(ChunkPos pos) {
+        long key = pos.asLong();
+        if (queued.add(key)) {
+            if (queue.isEmpty() && generated == 0) {
+                startTime = System.nanoTime();
+            }
+            queue.enqueue(key);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return The next chunk to regenerate, or null if there are no chunks left.
+     */
+    @Nullable
+    public synchronized ChunkPos poll() {
+        if (queue.isEmpty()) {
+            return null;
+        }
+        long key = queue.dequeueLong();
+        queued.remove(key);
+        generated++;
+        return new ChunkPos(key);
+    }
+
+    public synchronized boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    public synchronized int getRemaining() {
+        return queue.size();
+    }
+
+    public synchronized long getGenerated() {
+        return generated;
+    }
+
+    /**
+     * Estimates how long it will take to regenerate the remaining chunks, based on the rate chunks have been regenerated at so far.
+     *
+     * @return Estimated time in seconds, or -1 if no chunks have been regenerated yet.
+     */
+    public synchronized long getSecondsRemaining() {
+        if (generated == 0) {
+            return -1;
+        }
+        double elapsedSeconds = (System.nanoTime() - startTime) / 1_000_000_000D;
+        return (long) Math.ceil(queue.size() * elapsedSeconds / generated);
+    }
+}